@@ -0,0 +1,211 @@
+package bytecode;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Static estimate of the bytecode costs of the methods of compiled classes, for tracking the costs of hot methods
+ * without running matches.
+ * <p>
+ * The engine charges one bytecode per executed instruction, so the static cost of a method is its number of
+ * instructions. The upper bound of a method assumes that every instruction is executed, that every loop body is
+ * executed [loopBound] times per iteration of its enclosing loops, and that every call of an analyzed method costs the
+ * upper bound of the callee. Recursive calls and calls of methods that are not analyzed, like those of the engine,
+ * count as a single instruction. Calls of the engine are reported separately, since their costs are not included.
+ * <p>
+ * A method can declare the iterations per turn of its loops with the mars.util.LoopBound annotation, one bound per
+ * loop in the order in which the loops start, or a single bound for all of them. A loop starts at the target of its
+ * backward jumps. Annotated methods must declare a bound for every loop, so that the bounds stay in line with the
+ * code.
+ */
+public final class CostAnalyzer {
+
+    // bounds are capped to keep deeply nested loops from overflowing
+    private static final long MAX_BOUND = 1L << 40;
+
+    private static final String LOOP_BOUND = "Lmars/util/LoopBound;";
+
+    private final int loopBound;
+    private final Map<String, ClassNode> classes = new TreeMap<>();
+    private final Map<String, Long> bounds = new HashMap<>();
+    private final Set<String> inProgress = new HashSet<>();
+
+    public CostAnalyzer(int loopBound) {
+        this.loopBound = loopBound;
+    }
+
+    /**
+     * Reads all class files below [directory] whose internal names start with [packagePrefix], like "mars/".
+     */
+    public void addClasses(File directory, String packagePrefix) throws IOException {
+        File[] files = directory.listFiles();
+        if (files == null)
+            return;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                addClasses(file, packagePrefix);
+            } else if (file.getName().endsWith(".class")) {
+                ClassNode node = new ClassNode();
+                try (InputStream in = Files.newInputStream(file.toPath())) {
+                    new ClassReader(in).accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                }
+                if (node.name.startsWith(packagePrefix))
+                    classes.put(node.name, node);
+            }
+        }
+    }
+
+    /**
+     * Returns the costs of all methods of the added classes, sorted by class and method name.
+     */
+    public List<MethodCost> analyze() {
+        List<MethodCost> costs = new ArrayList<>();
+        for (ClassNode owner : classes.values()) {
+            for (MethodNode method : owner.methods) {
+                if ((method.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0)
+                    continue;
+                int instructions = 0;
+                int engineCalls = 0;
+                for (AbstractInsnNode insn : method.instructions) {
+                    if (insn.getOpcode() < 0)
+                        continue;
+                    instructions++;
+                    if (insn instanceof MethodInsnNode && ((MethodInsnNode) insn).owner.startsWith("battlecode/"))
+                        engineCalls++;
+                }
+                costs.add(new MethodCost(owner.name.replace('/', '.') + "." + method.name, method.desc,
+                        instructions, bound(owner, method), engineCalls));
+            }
+        }
+        costs.sort(Comparator.comparing((MethodCost cost) -> cost.name).thenComparing(cost -> cost.descriptor));
+        return costs;
+    }
+
+    private long bound(ClassNode owner, MethodNode method) {
+        String key = owner.name + "." + method.name + method.desc;
+        Long cached = bounds.get(key);
+        if (cached != null)
+            return cached;
+        if (!inProgress.add(key))
+            return 0;
+
+        AbstractInsnNode[] insns = method.instructions.toArray();
+        long[] multipliers = loopMultipliers(owner, method, insns);
+        long bound = 0;
+        for (int i = 0; i < insns.length; i++) {
+            AbstractInsnNode insn = insns[i];
+            if (insn.getOpcode() < 0)
+                continue;
+            long cost = 1;
+            if (insn instanceof MethodInsnNode) {
+                MethodInsnNode call = (MethodInsnNode) insn;
+                cost += callBound(call.owner, call.name, call.desc);
+            }
+            bound = Math.min(MAX_BOUND, bound + Math.min(MAX_BOUND, multipliers[i] * cost));
+        }
+
+        inProgress.remove(key);
+        bounds.put(key, bound);
+        return bound;
+    }
+
+    /**
+     * Returns the bound of a call, resolving the method in the superclasses of [owner]. Calls of methods that are not
+     * analyzed or that are abstract are free.
+     */
+    private long callBound(String owner, String name, String desc) {
+        for (ClassNode node = classes.get(owner); node != null; node = classes.get(node.superName)) {
+            for (MethodNode method : node.methods) {
+                if (method.name.equals(name) && method.desc.equals(desc)) {
+                    if ((method.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0)
+                        return 0;
+                    return bound(node, method);
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns for every instruction the number of times it is executed per call. A jump to an earlier instruction is
+     * the back edge of a loop, whose body is every instruction from the jump target to the last back edge to it.
+     */
+    private long[] loopMultipliers(ClassNode owner, MethodNode method, AbstractInsnNode[] insns) {
+        // the end of every loop by its start
+        TreeMap<Integer, Integer> loops = new TreeMap<>();
+        for (int j = 0; j < insns.length; j++) {
+            if (!(insns[j] instanceof JumpInsnNode))
+                continue;
+            int target = method.instructions.indexOf(((JumpInsnNode) insns[j]).label);
+            if (target < j)
+                loops.merge(target, j, Math::max);
+        }
+
+        int[] declared = declaredBounds(method);
+        if (declared != null && declared.length != 1 && declared.length != loops.size())
+            throw new IllegalStateException(owner.name.replace('/', '.') + "." + method.name + " declares "
+                    + declared.length + " loop bounds for " + loops.size() + " loops");
+
+        long[] multipliers = new long[insns.length];
+        Arrays.fill(multipliers, 1);
+        int n = 0;
+        for (Map.Entry<Integer, Integer> loop : loops.entrySet()) {
+            long bound = declared == null ? loopBound : declared[declared.length == 1 ? 0 : n];
+            for (int i = loop.getKey(); i <= loop.getValue(); i++)
+                multipliers[i] = Math.min(MAX_BOUND, multipliers[i] * bound);
+            n++;
+        }
+        return multipliers;
+    }
+
+    /**
+     * Returns the loop bounds of the LoopBound annotation of [method] or null if it has none.
+     */
+    private static int[] declaredBounds(MethodNode method) {
+        if (method.invisibleAnnotations == null)
+            return null;
+        for (AnnotationNode annotation : method.invisibleAnnotations) {
+            if (!annotation.desc.equals(LOOP_BOUND) || annotation.values == null)
+                continue;
+            // the values are alternating names and values, the value of an int[] is a list
+            List<?> values = (List<?>) annotation.values.get(1);
+            int[] bounds = new int[values.size()];
+            for (int i = 0; i < bounds.length; i++)
+                bounds[i] = (Integer) values.get(i);
+            return bounds;
+        }
+        return null;
+    }
+
+    /**
+     * Costs of a single method.
+     */
+    public static final class MethodCost {
+
+        /**
+         * Fully qualified name of the method, like mars.robot.Muckraker.step.
+         */
+        public final String name;
+        public final String descriptor;
+        public final int instructions;
+        public final long bound;
+        public final int engineCalls;
+
+        MethodCost(String name, String descriptor, int instructions, long bound, int engineCalls) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.instructions = instructions;
+            this.bound = bound;
+            this.engineCalls = engineCalls;
+        }
+
+    }
+
+}
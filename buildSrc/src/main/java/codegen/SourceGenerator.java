@@ -0,0 +1,251 @@
+package codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the sources of the mars.gen package: straight-line code for loops over fixed sets of tile offsets, so that
+ * robots do not spend bytecodes on loop counters and offset tables.
+ * <p>
+ * Vision senses the tiles in sensor range and the tiles that become visible by moving one step, per sensor radius.
+ * NavigationRings relaxes the rings of the window of mars.util.Navigator. Both index tiles like mars.util.TerrainCache.
+ */
+public final class SourceGenerator {
+
+    private static final String HEADER = "// Generated by ./gradlew generateSources from buildSrc/src/main/java/codegen/SourceGenerator.java, do not edit.\n";
+
+    // offsets of the directions by ordinal, in the order of battlecode.common.Direction
+    private static final int[] DIRECTION_X = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] DIRECTION_Y = {1, 1, 0, -1, -1, -1, 0, 1};
+    private static final String[] DIRECTION_NAMES = {
+            "NORTH", "NORTHEAST", "EAST", "SOUTHEAST", "SOUTH", "SOUTHWEST", "WEST", "NORTHWEST"
+    };
+
+    private SourceGenerator() {
+    }
+
+    /**
+     * Returns the source of mars.gen.Vision for the sensor radii squared of [robotTypes], by robot type name.
+     */
+    public static String vision(Map<String, Integer> robotTypes) {
+        final StringBuilder s = new StringBuilder(HEADER);
+        s.append("package mars.gen;\n\n");
+        s.append("import battlecode.common.GameActionException;\n");
+        s.append("import battlecode.common.MapLocation;\n");
+        s.append("import battlecode.common.RobotController;\n\n");
+        s.append("/**\n");
+        s.append(" * Senses the unknown tiles in sensor range, or those that became visible by moving a single step, into a tile array of\n");
+        s.append(" * mars.util.TerrainCache. The offsets are unrolled per sensor radius squared:\n *");
+        boolean first = true;
+        for (Map.Entry<String, Integer> type : robotTypes.entrySet()) {
+            s.append(first ? " " : ", ").append(type.getValue()).append(" (").append(type.getKey()).append(')');
+            first = false;
+        }
+        s.append(".\n");
+        s.append(" */\n");
+        s.append("public final strictfp class Vision {\n\n");
+        s.append("    public static final byte UNKNOWN = 0, OFF_MAP = -1;\n\n");
+        s.append("    private Vision() {\n");
+        s.append("    }\n\n");
+
+        final List<Integer> radii = new ArrayList<>();
+        for (int radiusSquared : robotTypes.values())
+            if (!radii.contains(radiusSquared))
+                radii.add(radiusSquared);
+
+        s.append("    /**\n");
+        s.append("     * Senses the unknown tiles within [radiusSquared] of (x, y).\n");
+        s.append("     */\n");
+        s.append("    public static void senseAll(int radiusSquared, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {\n");
+        s.append("        switch (radiusSquared) {\n");
+        for (int radiusSquared : radii) {
+            s.append("            case ").append(radiusSquared).append(":\n");
+            s.append("                senseAll").append(radiusSquared).append("(rc, tiles, x, y);\n");
+            s.append("                return;\n");
+        }
+        s.append("            default:\n");
+        s.append("                throw new IllegalArgumentException(\"no vision for radius squared \" + radiusSquared);\n");
+        s.append("        }\n");
+        s.append("    }\n\n");
+
+        s.append("    /**\n");
+        s.append("     * Senses the unknown tiles within [radiusSquared] of (x, y) that were not within it before moving in the direction\n");
+        s.append("     * with ordinal [direction].\n");
+        s.append("     */\n");
+        s.append("    public static void senseDelta(int radiusSquared, int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {\n");
+        s.append("        switch (radiusSquared) {\n");
+        for (int radiusSquared : radii) {
+            s.append("            case ").append(radiusSquared).append(":\n");
+            s.append("                senseDelta").append(radiusSquared).append("(direction, rc, tiles, x, y);\n");
+            s.append("                return;\n");
+        }
+        s.append("            default:\n");
+        s.append("                throw new IllegalArgumentException(\"no vision for radius squared \" + radiusSquared);\n");
+        s.append("        }\n");
+        s.append("    }\n\n");
+
+        for (int radiusSquared : radii) {
+            final int r = (int) Math.sqrt(radiusSquared);
+            s.append("    private static void senseAll").append(radiusSquared).append("(RobotController rc, byte[] tiles, int x, int y) throws GameActionException {\n");
+            s.append("        int i;\n");
+            for (int dx = -r; dx <= r; dx++)
+                for (int dy = -r; dy <= r; dy++)
+                    if (dx * dx + dy * dy <= radiusSquared)
+                        senseTile(s, "        ", dx, dy);
+            s.append("    }\n\n");
+
+            s.append("    private static void senseDelta").append(radiusSquared).append("(int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {\n");
+            s.append("        int i;\n");
+            s.append("        switch (direction) {\n");
+            for (int d = 0; d < 8; d++) {
+                s.append("            case ").append(d).append(": // ").append(DIRECTION_NAMES[d]).append('\n');
+                // an offset from the new location was visible before if it is within the radius of the old location
+                for (int dx = -r; dx <= r; dx++)
+                    for (int dy = -r; dy <= r; dy++) {
+                        final int px = dx + DIRECTION_X[d], py = dy + DIRECTION_Y[d];
+                        if (dx * dx + dy * dy <= radiusSquared && px * px + py * py > radiusSquared)
+                            senseTile(s, "                ", dx, dy);
+                    }
+                s.append("                return;\n");
+            }
+            s.append("        }\n");
+            s.append("    }\n\n");
+        }
+
+        s.append("    private static byte tile(RobotController rc, int x, int y) throws GameActionException {\n");
+        s.append("        final MapLocation location = new MapLocation(x, y);\n");
+        s.append("        return rc.onTheMap(location) ? (byte) Math.round(rc.sensePassability(location) * 100) : OFF_MAP;\n");
+        s.append("    }\n\n");
+        s.append("}\n");
+        return s.toString();
+    }
+
+    private static void senseTile(StringBuilder s, String indent, int dx, int dy) {
+        final String x = offset("x", dx), y = offset("y", dy);
+        s.append(indent).append("if (tiles[i = (").append(masked("x", dx)).append(") << 7 | (").append(masked("y", dy)).append(")] == UNKNOWN)\n");
+        s.append(indent).append("    tiles[i] = tile(rc, ").append(x).append(", ").append(y).append(");\n");
+    }
+
+    /**
+     * Returns the source of mars.gen.NavigationRings for a window with [radius] rings around the center, where tiles
+     * that are not known cost [unknownCost].
+     */
+    public static String navigationRings(int radius, int unknownCost) {
+        final int width = 2 * radius + 1;
+        final int center = radius * width + radius;
+
+        // walk around every ring, so consecutive tiles of a ring are neighbors, like Navigator does
+        final List<int[]> order = new ArrayList<>();
+        final int[] position = new int[width * width];
+        position[center] = -1;
+        for (int k = 1; k <= radius; k++) {
+            int x = -k, y = -k;
+            for (int side = 0; side < 4; side++) {
+                final int sx = side == 0 ? 1 : side == 2 ? -1 : 0, sy = side == 1 ? 1 : side == 3 ? -1 : 0;
+                for (int step = 0; step < 2 * k; step++) {
+                    position[(x + radius) * width + y + radius] = order.size();
+                    order.add(new int[]{x, y, k});
+                    x += sx;
+                    y += sy;
+                }
+            }
+        }
+
+        final StringBuilder s = new StringBuilder(HEADER);
+        s.append("package mars.gen;\n\n");
+        s.append("import battlecode.common.Clock;\n\n");
+        s.append("/**\n");
+        s.append(" * Relaxes the rings of the window of mars.util.Navigator, with the tile at offset (dx, dy) at index\n");
+        s.append(" * (dx + RADIUS) * WIDTH + dy + RADIUS. Every tile takes the cheapest of its neighbors in an inner ring or earlier in\n");
+        s.append(" * its own ring, preferring those closest to the center on ties, and adds its own cost: INFINITY if it is off the map or\n");
+        s.append(" * occupied, UNKNOWN_COST if it is unknown and 1000 / passability in hundredths otherwise.\n");
+        s.append(" */\n");
+        s.append("public final strictfp class NavigationRings {\n\n");
+        s.append("    public static final int RADIUS = ").append(radius).append(";\n");
+        s.append("    public static final int WIDTH = ").append(width).append(";\n");
+        s.append("    public static final int CENTER = ").append(center).append(";\n");
+        s.append("    public static final int UNKNOWN_COST = ").append(unknownCost).append(", INFINITY = 1 << 20;\n\n");
+        s.append("    private static final byte UNKNOWN = 0, OFF_MAP = -1;\n\n");
+        s.append("    private NavigationRings() {\n");
+        s.append("    }\n\n");
+
+        s.append("    /**\n");
+        s.append("     * Relaxes the rings around (x, y) from the inside out, given the tiles of mars.util.TerrainCache, and stops before\n");
+        s.append("     * a ring when fewer than [bytecodeCap] bytecodes are left. Tiles that are occupied have [plan] in [occupied].\n");
+        s.append("     * Returns the number of rings that were relaxed.\n");
+        s.append("     */\n");
+        s.append("    public static int relax(int bytecodeCap, byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {\n");
+        for (int k = 1; k <= radius; k++) {
+            s.append("        if (Clock.getBytecodesLeft() < bytecodeCap)\n");
+            s.append("            return ").append(k - 1).append(";\n");
+            s.append("        relax").append(k).append("(tiles, x, y, costs, parents, occupied, plan);\n");
+        }
+        s.append("        return ").append(radius).append(";\n");
+        s.append("    }\n");
+
+        for (int k = 1; k <= radius; k++) {
+            s.append("\n    private static void relax").append(k).append("(byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {\n");
+            s.append("        byte t;\n");
+            s.append("        int b, p;\n");
+            for (int p = 0; p < order.size(); p++) {
+                final int[] tile = order.get(p);
+                if (tile[2] != k)
+                    continue;
+                final int tx = tile[0], ty = tile[1];
+                final int i = (tx + radius) * width + ty + radius;
+
+                // the neighbors that come before this tile, closest to the center first
+                final List<Integer> predecessors = new ArrayList<>();
+                for (int dx = -1; dx <= 1; dx++)
+                    for (int dy = -1; dy <= 1; dy++) {
+                        final int nx = tx + dx, ny = ty + dy;
+                        if ((dx != 0 || dy != 0) && Math.abs(nx) <= radius && Math.abs(ny) <= radius) {
+                            final int j = (nx + radius) * width + ny + radius;
+                            if (position[j] < p) {
+                                int q = predecessors.size();
+                                while (q > 0 && distanceSquared(predecessors.get(q - 1), radius, width) > nx * nx + ny * ny)
+                                    q--;
+                                predecessors.add(q, j);
+                            }
+                        }
+                    }
+
+                s.append("        // (").append(tx).append(", ").append(ty).append(")\n");
+                s.append("        t = tiles[(").append(masked("x", tx)).append(") << 7 | (").append(masked("y", ty)).append(")];\n");
+                s.append("        if (t == OFF_MAP || occupied[").append(i).append("] == plan) {\n");
+                s.append("            costs[").append(i).append("] = INFINITY;\n");
+                s.append("        } else {\n");
+                s.append("            b = costs[").append(predecessors.get(0)).append("];\n");
+                s.append("            p = ").append(predecessors.get(0)).append(";\n");
+                for (int q = 1; q < predecessors.size(); q++) {
+                    final int j = predecessors.get(q);
+                    s.append("            if (costs[").append(j).append("] < b) {\n");
+                    s.append("                b = costs[").append(j).append("];\n");
+                    s.append("                p = ").append(j).append(";\n");
+                    s.append("            }\n");
+                }
+                s.append("            costs[").append(i).append("] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);\n");
+                s.append("            parents[").append(i).append("] = p;\n");
+                s.append("        }\n");
+            }
+            s.append("    }\n");
+        }
+        s.append("\n}\n");
+        return s.toString();
+    }
+
+    private static int distanceSquared(int index, int radius, int width) {
+        final int dx = index / width - radius, dy = index % width - radius;
+        return dx * dx + dy * dy;
+    }
+
+    private static String masked(String variable, int offset) {
+        return offset == 0 ? variable + " & 127" : "(" + offset(variable, offset) + ") & 127";
+    }
+
+    private static String offset(String variable, int offset) {
+        return offset == 0 ? variable : offset > 0 ? variable + " + " + offset : variable + " - " + -offset;
+    }
+
+}
@@ -7,6 +7,12 @@ public final strictfp class Constants {
 
     public static final boolean DEBUG = true;
 
+    /**
+     * Enables the bytecode profiler of mars.util.Profiler, which prints reports of every robot. Independent of DEBUG,
+     * since the reports of hundreds of units flood the match log and cost bytecode in real games.
+     */
+    public static final boolean PROFILE = false;
+
     /**
      * Max distance squared within the map.
      */
@@ -25,8 +31,10 @@ public final strictfp class Constants {
             F_V_NEW_BORDER                  = 0b010_000_00000000_00000000, // indicates that a unit wants to transfer a border location
             F_V_NEW_EC_COORDINATES          = 0b011_000_00000000_00000000, // indicates that a unit wants to transfer coordinates of a new EC
             F_V_NEW_EC_ID                   = 0b100_000_00000000_00000000, // indicates that a unit wants to transfer an id of a new EC
+            // 0b110 and 0b111 are the packed messages of mars.comm.FlagCodec
             F_B_COORDINATE_TYPE             = 0b000_000_00000000_10000000, // 0: X, 1: Y
             F_M_ID                          = 0b000_111_11111111_11111111, // mask for communicating ID values
+            F_M_LOCATION                    = 0b000_000_00111111_11111111, // mask for communicating encoded locations
 
             // EC specific flag constants
             F_B_EC_SCAN                     = 0b000_100_00000000_00000000, // swaps values after each completed EC scan cycle
@@ -34,12 +42,21 @@ public final strictfp class Constants {
             F_V_EC_ATTACK                   = 0b010_000_00000000_00000000, // indicates that EC communicates an attack target
             F_V_EC_1_BORDER                 = 0b011_000_00000000_00000000, // indicates that EC communicates 1 border
             F_V_EC_2_BORDER                 = 0b100_000_00000000_00000000, // indicates that EC communicates 2 border
+            F_V_EC_STREAM                   = 0b101_000_00000000_00000000, // indicates that EC reads the unit with the given ID every round
+            F_M_EC_STREAM_ID                = 0b000_011_11111111_11111111, // mask for the ID of a stream grant
+            F_V_EC_KNOWN                    = 0b110_000_00000000_00000000, // indicates that EC shares a known EC location for other ECs
+            F_V_EC_PEER                     = 0b111_000_00000000_00000000, // indicates that EC shares the ID of a friendly EC for other ECs
+            F_M_EC_PEER_ID                  = 0b000_011_11111111_11111111, // mask for the ID of a friendly EC
+            F_M_EC_TEAM                     = 0b000_011_00000000_00000000, // mask for the team of a known EC, a state of the EC table
+            F_B_EC_POOR                     = 0b10_000_000_00000000_00000000, // set while the EC cannot afford the bid for votes, so that a richer EC bids
+            F_M_EC_SYMMETRY                 = 0b000_000_11000000_00000000, // mask for the symmetry known by the EC: 0 unknown, 1 vertical, 2 horizontal, 3 rotational
 
             // borders are communicated by 0btt_xxxxxxx where t indicates the type:
             F_V_BORDER_L                    =                0b00_0000000,
             F_V_BORDER_R                    =                0b01_0000000,
             F_V_BORDER_B                    =                0b10_0000000,
             F_V_BORDER_T                    =                0b11_0000000,
+            F_M_BORDER                      =                0b11_1111111, // mask for a border code, the type is a side of mars.util.BorderKnowledge
 
             F_V_POLITICIAN_TYPE_DEFENSIVE   = 0b000_000_00000000_00000000, // indicates that EC just spawned a defensive politician
             F_V_POLITICIAN_TYPE_OFFENSIVE   = 0b000_001_00000000_00000000, // indicates that EC just spawned an offensive politician
@@ -49,6 +66,22 @@ public final strictfp class Constants {
             // slanderer specific flag constants
             F_V_SLANDERER_PANIC             = 0b101_000_00000000_00000000; // indicates that slanderer is being threatened and communicates own location
 
+    // spawn communication protocol constants
+    public static final int
+            STREAM_ROUNDS = 8;
+
+    /**
+     * Rounds that a captured EC waits for the knowledge of other ECs before it builds muckrakers to find the borders.
+     */
+    public static final int SYNC_ROUNDS = 20;
+
+    // unit polling constants, a unit is hot while it is a slanderer or was active in the last HOT_ACTIVITY_ROUNDS
+    public static final int
+            PANIC_LATENCY_ROUNDS = 2,
+            WARM_POLL_ROUNDS = 10,
+            HOT_ACTIVITY_ROUNDS = 20,
+            WARM_ACTIVITY_ROUNDS = 100;
+
     // building protocol constants
     public static final int
             UNPROTECTED_ROUNDS = 50,
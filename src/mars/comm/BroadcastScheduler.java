@@ -0,0 +1,129 @@
+package mars.comm;
+
+import mars.util.LoopBound;
+
+/**
+ * Chooses the message that a robot shows on its flag each round from a fixed set of channels, each holding at most one
+ * message.
+ * <p>
+ * A channel has an urgency and a rebroadcast interval. A message can expire after a given round, like an instruction
+ * that is only meaningful in a single round. The messages are chosen in this order:
+ * <ol>
+ * <li>messages that expire in this round, the most urgent first, since they cannot wait;</li>
+ * <li>messages that differ from the previous message of their channel, the most urgent first, but a channel only goes
+ * first this way once per interval, so that a channel that changes often cannot starve the others;</li>
+ * <li>the message that is most overdue relative to its interval, the most urgent first if that is a tie, so that every
+ * message is repeated for robots that missed it, or that were not around when it changed.</li>
+ * </ol>
+ * The last rule rotates the repeating channels: when more messages are due than fit on the flag, each of them waits
+ * until it is as overdue as the others, so no repeating channel is delayed without bound.
+ */
+public final strictfp class BroadcastScheduler {
+
+    /**
+     * Message of an empty channel and result of next() if all channels are empty.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Expiry of messages that do not expire.
+     */
+    public static final int NEVER = Integer.MAX_VALUE;
+
+    // order in which messages are chosen, from the last to the first
+    private static final int TIER_DUE = 0, TIER_CHANGED = 1, TIER_EXPIRING = 2;
+
+    private final int[] messages;
+    private final int[] urgencies;
+    private final int[] intervals;
+    private final int[] expiries;
+    private final int[] lastSent;
+    private final int[] lastPreempted;
+    private final boolean[] changed;
+
+    public BroadcastScheduler(int channels) {
+        messages = new int[channels];
+        urgencies = new int[channels];
+        intervals = new int[channels];
+        expiries = new int[channels];
+        lastSent = new int[channels];
+        lastPreempted = new int[channels];
+        changed = new boolean[channels];
+        for (int c = 0; c < channels; c++) {
+            messages[c] = NONE;
+            intervals[c] = 1;
+            // far enough in the past for any interval, without overflowing
+            lastPreempted[c] = Integer.MIN_VALUE / 2;
+        }
+    }
+
+    /**
+     * Sets the [urgency] of [channel] and the number of rounds after which its message is due again.
+     */
+    public void configure(int channel, int urgency, int interval) {
+        urgencies[channel] = urgency;
+        intervals[channel] = interval;
+    }
+
+    /**
+     * Sets the message of [channel], which is dropped after round [expiry]. It is sent as soon as possible if it differs
+     * from the current message of the channel.
+     */
+    public void set(int channel, int message, int expiry) {
+        if (messages[channel] != message) {
+            messages[channel] = message;
+            changed[channel] = true;
+        }
+        expiries[channel] = expiry;
+    }
+
+    /**
+     * Replaces the message of [channel] without sending it sooner, for channels that cycle through several messages.
+     */
+    public void rotate(int channel, int message) {
+        messages[channel] = message;
+        expiries[channel] = NEVER;
+    }
+
+    public void clear(int channel) {
+        messages[channel] = NONE;
+        changed[channel] = false;
+    }
+
+    /**
+     * Returns the message to send in [round], or NONE if there is none.
+     */
+    // the EC uses 8 channels
+    @LoopBound(8)
+    public int next(int round) {
+        final int[] messages = this.messages;
+        int best = -1;
+        int bestTier = 0, bestOverdue = Integer.MIN_VALUE;
+        for (int c = 0; c < messages.length; c++) {
+            if (messages[c] == NONE || expiries[c] < round) {
+                clear(c);
+                // an empty channel is never late, so a new message is overdue from the round it is set
+                lastSent[c] = round;
+                continue;
+            }
+            final int overdue = round - lastSent[c] - intervals[c];
+            final int tier = expiries[c] == round ? TIER_EXPIRING
+                    : changed[c] && round - lastPreempted[c] >= intervals[c] ? TIER_CHANGED : TIER_DUE;
+            if (best == -1 || tier > bestTier || tier == bestTier && (tier != TIER_DUE
+                    ? urgencies[c] > urgencies[best]
+                    : overdue > bestOverdue || overdue == bestOverdue && urgencies[c] > urgencies[best])) {
+                best = c;
+                bestTier = tier;
+                bestOverdue = overdue;
+            }
+        }
+        if (best == -1)
+            return NONE;
+        if (bestTier == TIER_CHANGED)
+            lastPreempted[best] = round;
+        changed[best] = false;
+        lastSent[best] = round;
+        return messages[best];
+    }
+
+}
@@ -0,0 +1,113 @@
+package mars.comm;
+
+/**
+ * Schemas of the packed unit-to-EC messages, version 2 of the flag protocol. Version 1 are the messages of Constants
+ * that carry a single datum, like F_V_NEW_EC_COORDINATES followed by F_V_NEW_EC_ID. Version 2 messages use the action
+ * values that version 1 leaves free, so an EC can read both versions.
+ * <p>
+ * Every field is declared by its shift and width, and is encoded and decoded with shifts and masks of these constants.
+ * The two bits above the action, which version 1 does not use, hold the team of EC_FOUND.
+ * <pre>
+ * EC_FOUND  [team:2][110][id delta:5][dx:7][dy:7]  location relative to the spawn of the sender
+ * BORDERS   [00][111][0:1][border:9][border:9]     two codes of the form F_V_BORDER_* | coordinate
+ * </pre>
+ * The id delta is the id of an ally EC minus the id of the spawn of the sender, or NO_ID_DELTA if it is not an ally EC
+ * or the delta does not fit, in which case an F_V_NEW_EC_ID message can follow. A BORDERS message with a single border
+ * repeats it.
+ */
+public final strictfp class FlagCodec {
+
+    public static final int
+            EC_FOUND = 0b00_110_000_00000000_00000000,
+            BORDERS = 0b00_111_000_00000000_00000000;
+
+    // teams of EC_FOUND
+    public static final int
+            TEAM_UNKNOWN = 0,
+            TEAM_ALLY = 1,
+            TEAM_ENEMY = 2,
+            TEAM_NEUTRAL = 3;
+
+    /**
+     * Id delta of EC_FOUND if the id is not sent.
+     */
+    public static final int NO_ID_DELTA = -16;
+
+    /**
+     * Largest absolute offset of EC_FOUND, which covers every map.
+     */
+    public static final int MAX_OFFSET = 63;
+
+    private static final int
+            TEAM_SHIFT = 22, TEAM_WIDTH = 2,
+            ID_DELTA_SHIFT = 14, ID_DELTA_WIDTH = 5,
+            DX_SHIFT = 7, DY_SHIFT = 0, OFFSET_WIDTH = 7,
+            FIRST_BORDER_SHIFT = 9, SECOND_BORDER_SHIFT = 0, BORDER_WIDTH = 9;
+
+    /**
+     * Mask of the location of EC_FOUND, which is the same as Constants.F_M_LOCATION of F_V_NEW_EC_COORDINATES, so that
+     * messages about the same EC can be matched in both versions.
+     */
+    public static final int EC_FOUND_LOCATION = ((1 << OFFSET_WIDTH) - 1) << DX_SHIFT | ((1 << OFFSET_WIDTH) - 1) << DY_SHIFT;
+
+    private FlagCodec() {
+    }
+
+    /**
+     * Returns the EC_FOUND message of an EC of [team] at offset ([dx], [dy]) from the spawn of the sender.
+     */
+    public static int ecFound(int team, int idDelta, int dx, int dy) {
+        return EC_FOUND
+                | team << TEAM_SHIFT
+                | field(idDelta, ID_DELTA_WIDTH) << ID_DELTA_SHIFT
+                | field(dx, OFFSET_WIDTH) << DX_SHIFT
+                | field(dy, OFFSET_WIDTH) << DY_SHIFT;
+    }
+
+    /**
+     * Returns whether [idDelta] can be sent in an EC_FOUND message.
+     */
+    public static boolean fitsIdDelta(int idDelta) {
+        return idDelta > NO_ID_DELTA && idDelta <= -NO_ID_DELTA - 1;
+    }
+
+    public static int team(int message) {
+        return message >>> TEAM_SHIFT & (1 << TEAM_WIDTH) - 1;
+    }
+
+    public static int idDelta(int message) {
+        return signed(message >>> ID_DELTA_SHIFT, ID_DELTA_WIDTH);
+    }
+
+    public static int dx(int message) {
+        return signed(message >>> DX_SHIFT, OFFSET_WIDTH);
+    }
+
+    public static int dy(int message) {
+        return signed(message >>> DY_SHIFT, OFFSET_WIDTH);
+    }
+
+    /**
+     * Returns the BORDERS message of two border codes, which may be the same.
+     */
+    public static int borders(int first, int second) {
+        return BORDERS | first << FIRST_BORDER_SHIFT | second << SECOND_BORDER_SHIFT;
+    }
+
+    public static int firstBorder(int message) {
+        return message >>> FIRST_BORDER_SHIFT & (1 << BORDER_WIDTH) - 1;
+    }
+
+    public static int secondBorder(int message) {
+        return message >>> SECOND_BORDER_SHIFT & (1 << BORDER_WIDTH) - 1;
+    }
+
+    private static int field(int value, int width) {
+        return value & (1 << width) - 1;
+    }
+
+    private static int signed(int bits, int width) {
+        return bits << 32 - width >> 32 - width;
+    }
+
+}
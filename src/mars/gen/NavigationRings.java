@@ -0,0 +1,1633 @@
+// Generated by ./gradlew generateSources from buildSrc/src/main/java/codegen/SourceGenerator.java, do not edit.
+package mars.gen;
+
+import battlecode.common.Clock;
+
+/**
+ * Relaxes the rings of the window of mars.util.Navigator, with the tile at offset (dx, dy) at index
+ * (dx + RADIUS) * WIDTH + dy + RADIUS. Every tile takes the cheapest of its neighbors in an inner ring or earlier in
+ * its own ring, preferring those closest to the center on ties, and adds its own cost: INFINITY if it is off the map or
+ * occupied, UNKNOWN_COST if it is unknown and 1000 / passability in hundredths otherwise.
+ */
+public final strictfp class NavigationRings {
+
+    public static final int RADIUS = 4;
+    public static final int WIDTH = 9;
+    public static final int CENTER = 40;
+    public static final int UNKNOWN_COST = 20, INFINITY = 1 << 20;
+
+    private static final byte UNKNOWN = 0, OFF_MAP = -1;
+
+    private NavigationRings() {
+    }
+
+    /**
+     * Relaxes the rings around (x, y) from the inside out, given the tiles of mars.util.TerrainCache, and stops before
+     * a ring when fewer than [bytecodeCap] bytecodes are left. Tiles that are occupied have [plan] in [occupied].
+     * Returns the number of rings that were relaxed.
+     */
+    public static int relax(int bytecodeCap, byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {
+        if (Clock.getBytecodesLeft() < bytecodeCap)
+            return 0;
+        relax1(tiles, x, y, costs, parents, occupied, plan);
+        if (Clock.getBytecodesLeft() < bytecodeCap)
+            return 1;
+        relax2(tiles, x, y, costs, parents, occupied, plan);
+        if (Clock.getBytecodesLeft() < bytecodeCap)
+            return 2;
+        relax3(tiles, x, y, costs, parents, occupied, plan);
+        if (Clock.getBytecodesLeft() < bytecodeCap)
+            return 3;
+        relax4(tiles, x, y, costs, parents, occupied, plan);
+        return 4;
+    }
+
+    private static void relax1(byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {
+        byte t;
+        int b, p;
+        // (-1, -1)
+        t = tiles[((x - 1) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[30] == plan) {
+            costs[30] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            costs[30] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[30] = p;
+        }
+        // (0, -1)
+        t = tiles[(x & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[39] == plan) {
+            costs[39] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[30] < b) {
+                b = costs[30];
+                p = 30;
+            }
+            costs[39] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[39] = p;
+        }
+        // (1, -1)
+        t = tiles[((x + 1) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[48] == plan) {
+            costs[48] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[39] < b) {
+                b = costs[39];
+                p = 39;
+            }
+            costs[48] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[48] = p;
+        }
+        // (1, 0)
+        t = tiles[((x + 1) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[49] == plan) {
+            costs[49] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[39] < b) {
+                b = costs[39];
+                p = 39;
+            }
+            if (costs[48] < b) {
+                b = costs[48];
+                p = 48;
+            }
+            costs[49] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[49] = p;
+        }
+        // (1, 1)
+        t = tiles[((x + 1) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[50] == plan) {
+            costs[50] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[49] < b) {
+                b = costs[49];
+                p = 49;
+            }
+            costs[50] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[50] = p;
+        }
+        // (0, 1)
+        t = tiles[(x & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[41] == plan) {
+            costs[41] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[49] < b) {
+                b = costs[49];
+                p = 49;
+            }
+            if (costs[50] < b) {
+                b = costs[50];
+                p = 50;
+            }
+            costs[41] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[41] = p;
+        }
+        // (-1, 1)
+        t = tiles[((x - 1) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[32] == plan) {
+            costs[32] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[41] < b) {
+                b = costs[41];
+                p = 41;
+            }
+            costs[32] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[32] = p;
+        }
+        // (-1, 0)
+        t = tiles[((x - 1) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[31] == plan) {
+            costs[31] = INFINITY;
+        } else {
+            b = costs[40];
+            p = 40;
+            if (costs[39] < b) {
+                b = costs[39];
+                p = 39;
+            }
+            if (costs[41] < b) {
+                b = costs[41];
+                p = 41;
+            }
+            if (costs[30] < b) {
+                b = costs[30];
+                p = 30;
+            }
+            if (costs[32] < b) {
+                b = costs[32];
+                p = 32;
+            }
+            costs[31] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[31] = p;
+        }
+    }
+
+    private static void relax2(byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {
+        byte t;
+        int b, p;
+        // (-2, -2)
+        t = tiles[((x - 2) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[20] == plan) {
+            costs[20] = INFINITY;
+        } else {
+            b = costs[30];
+            p = 30;
+            costs[20] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[20] = p;
+        }
+        // (-1, -2)
+        t = tiles[((x - 1) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[29] == plan) {
+            costs[29] = INFINITY;
+        } else {
+            b = costs[39];
+            p = 39;
+            if (costs[30] < b) {
+                b = costs[30];
+                p = 30;
+            }
+            if (costs[20] < b) {
+                b = costs[20];
+                p = 20;
+            }
+            costs[29] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[29] = p;
+        }
+        // (0, -2)
+        t = tiles[(x & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[38] == plan) {
+            costs[38] = INFINITY;
+        } else {
+            b = costs[39];
+            p = 39;
+            if (costs[30] < b) {
+                b = costs[30];
+                p = 30;
+            }
+            if (costs[48] < b) {
+                b = costs[48];
+                p = 48;
+            }
+            if (costs[29] < b) {
+                b = costs[29];
+                p = 29;
+            }
+            costs[38] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[38] = p;
+        }
+        // (1, -2)
+        t = tiles[((x + 1) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[47] == plan) {
+            costs[47] = INFINITY;
+        } else {
+            b = costs[39];
+            p = 39;
+            if (costs[48] < b) {
+                b = costs[48];
+                p = 48;
+            }
+            if (costs[38] < b) {
+                b = costs[38];
+                p = 38;
+            }
+            costs[47] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[47] = p;
+        }
+        // (2, -2)
+        t = tiles[((x + 2) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[56] == plan) {
+            costs[56] = INFINITY;
+        } else {
+            b = costs[48];
+            p = 48;
+            if (costs[47] < b) {
+                b = costs[47];
+                p = 47;
+            }
+            costs[56] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[56] = p;
+        }
+        // (2, -1)
+        t = tiles[((x + 2) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[57] == plan) {
+            costs[57] = INFINITY;
+        } else {
+            b = costs[49];
+            p = 49;
+            if (costs[48] < b) {
+                b = costs[48];
+                p = 48;
+            }
+            if (costs[47] < b) {
+                b = costs[47];
+                p = 47;
+            }
+            if (costs[56] < b) {
+                b = costs[56];
+                p = 56;
+            }
+            costs[57] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[57] = p;
+        }
+        // (2, 0)
+        t = tiles[((x + 2) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[58] == plan) {
+            costs[58] = INFINITY;
+        } else {
+            b = costs[49];
+            p = 49;
+            if (costs[48] < b) {
+                b = costs[48];
+                p = 48;
+            }
+            if (costs[50] < b) {
+                b = costs[50];
+                p = 50;
+            }
+            if (costs[57] < b) {
+                b = costs[57];
+                p = 57;
+            }
+            costs[58] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[58] = p;
+        }
+        // (2, 1)
+        t = tiles[((x + 2) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[59] == plan) {
+            costs[59] = INFINITY;
+        } else {
+            b = costs[49];
+            p = 49;
+            if (costs[50] < b) {
+                b = costs[50];
+                p = 50;
+            }
+            if (costs[58] < b) {
+                b = costs[58];
+                p = 58;
+            }
+            costs[59] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[59] = p;
+        }
+        // (2, 2)
+        t = tiles[((x + 2) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[60] == plan) {
+            costs[60] = INFINITY;
+        } else {
+            b = costs[50];
+            p = 50;
+            if (costs[59] < b) {
+                b = costs[59];
+                p = 59;
+            }
+            costs[60] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[60] = p;
+        }
+        // (1, 2)
+        t = tiles[((x + 1) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[51] == plan) {
+            costs[51] = INFINITY;
+        } else {
+            b = costs[41];
+            p = 41;
+            if (costs[50] < b) {
+                b = costs[50];
+                p = 50;
+            }
+            if (costs[59] < b) {
+                b = costs[59];
+                p = 59;
+            }
+            if (costs[60] < b) {
+                b = costs[60];
+                p = 60;
+            }
+            costs[51] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[51] = p;
+        }
+        // (0, 2)
+        t = tiles[(x & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[42] == plan) {
+            costs[42] = INFINITY;
+        } else {
+            b = costs[41];
+            p = 41;
+            if (costs[32] < b) {
+                b = costs[32];
+                p = 32;
+            }
+            if (costs[50] < b) {
+                b = costs[50];
+                p = 50;
+            }
+            if (costs[51] < b) {
+                b = costs[51];
+                p = 51;
+            }
+            costs[42] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[42] = p;
+        }
+        // (-1, 2)
+        t = tiles[((x - 1) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[33] == plan) {
+            costs[33] = INFINITY;
+        } else {
+            b = costs[41];
+            p = 41;
+            if (costs[32] < b) {
+                b = costs[32];
+                p = 32;
+            }
+            if (costs[42] < b) {
+                b = costs[42];
+                p = 42;
+            }
+            costs[33] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[33] = p;
+        }
+        // (-2, 2)
+        t = tiles[((x - 2) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[24] == plan) {
+            costs[24] = INFINITY;
+        } else {
+            b = costs[32];
+            p = 32;
+            if (costs[33] < b) {
+                b = costs[33];
+                p = 33;
+            }
+            costs[24] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[24] = p;
+        }
+        // (-2, 1)
+        t = tiles[((x - 2) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[23] == plan) {
+            costs[23] = INFINITY;
+        } else {
+            b = costs[31];
+            p = 31;
+            if (costs[32] < b) {
+                b = costs[32];
+                p = 32;
+            }
+            if (costs[33] < b) {
+                b = costs[33];
+                p = 33;
+            }
+            if (costs[24] < b) {
+                b = costs[24];
+                p = 24;
+            }
+            costs[23] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[23] = p;
+        }
+        // (-2, 0)
+        t = tiles[((x - 2) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[22] == plan) {
+            costs[22] = INFINITY;
+        } else {
+            b = costs[31];
+            p = 31;
+            if (costs[30] < b) {
+                b = costs[30];
+                p = 30;
+            }
+            if (costs[32] < b) {
+                b = costs[32];
+                p = 32;
+            }
+            if (costs[23] < b) {
+                b = costs[23];
+                p = 23;
+            }
+            costs[22] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[22] = p;
+        }
+        // (-2, -1)
+        t = tiles[((x - 2) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[21] == plan) {
+            costs[21] = INFINITY;
+        } else {
+            b = costs[31];
+            p = 31;
+            if (costs[30] < b) {
+                b = costs[30];
+                p = 30;
+            }
+            if (costs[22] < b) {
+                b = costs[22];
+                p = 22;
+            }
+            if (costs[29] < b) {
+                b = costs[29];
+                p = 29;
+            }
+            if (costs[20] < b) {
+                b = costs[20];
+                p = 20;
+            }
+            costs[21] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[21] = p;
+        }
+    }
+
+    private static void relax3(byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {
+        byte t;
+        int b, p;
+        // (-3, -3)
+        t = tiles[((x - 3) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[10] == plan) {
+            costs[10] = INFINITY;
+        } else {
+            b = costs[20];
+            p = 20;
+            costs[10] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[10] = p;
+        }
+        // (-2, -3)
+        t = tiles[((x - 2) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[19] == plan) {
+            costs[19] = INFINITY;
+        } else {
+            b = costs[29];
+            p = 29;
+            if (costs[20] < b) {
+                b = costs[20];
+                p = 20;
+            }
+            if (costs[10] < b) {
+                b = costs[10];
+                p = 10;
+            }
+            costs[19] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[19] = p;
+        }
+        // (-1, -3)
+        t = tiles[((x - 1) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[28] == plan) {
+            costs[28] = INFINITY;
+        } else {
+            b = costs[38];
+            p = 38;
+            if (costs[29] < b) {
+                b = costs[29];
+                p = 29;
+            }
+            if (costs[20] < b) {
+                b = costs[20];
+                p = 20;
+            }
+            if (costs[19] < b) {
+                b = costs[19];
+                p = 19;
+            }
+            costs[28] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[28] = p;
+        }
+        // (0, -3)
+        t = tiles[(x & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[37] == plan) {
+            costs[37] = INFINITY;
+        } else {
+            b = costs[38];
+            p = 38;
+            if (costs[29] < b) {
+                b = costs[29];
+                p = 29;
+            }
+            if (costs[47] < b) {
+                b = costs[47];
+                p = 47;
+            }
+            if (costs[28] < b) {
+                b = costs[28];
+                p = 28;
+            }
+            costs[37] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[37] = p;
+        }
+        // (1, -3)
+        t = tiles[((x + 1) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[46] == plan) {
+            costs[46] = INFINITY;
+        } else {
+            b = costs[38];
+            p = 38;
+            if (costs[47] < b) {
+                b = costs[47];
+                p = 47;
+            }
+            if (costs[56] < b) {
+                b = costs[56];
+                p = 56;
+            }
+            if (costs[37] < b) {
+                b = costs[37];
+                p = 37;
+            }
+            costs[46] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[46] = p;
+        }
+        // (2, -3)
+        t = tiles[((x + 2) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[55] == plan) {
+            costs[55] = INFINITY;
+        } else {
+            b = costs[47];
+            p = 47;
+            if (costs[56] < b) {
+                b = costs[56];
+                p = 56;
+            }
+            if (costs[46] < b) {
+                b = costs[46];
+                p = 46;
+            }
+            costs[55] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[55] = p;
+        }
+        // (3, -3)
+        t = tiles[((x + 3) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[64] == plan) {
+            costs[64] = INFINITY;
+        } else {
+            b = costs[56];
+            p = 56;
+            if (costs[55] < b) {
+                b = costs[55];
+                p = 55;
+            }
+            costs[64] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[64] = p;
+        }
+        // (3, -2)
+        t = tiles[((x + 3) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[65] == plan) {
+            costs[65] = INFINITY;
+        } else {
+            b = costs[57];
+            p = 57;
+            if (costs[56] < b) {
+                b = costs[56];
+                p = 56;
+            }
+            if (costs[55] < b) {
+                b = costs[55];
+                p = 55;
+            }
+            if (costs[64] < b) {
+                b = costs[64];
+                p = 64;
+            }
+            costs[65] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[65] = p;
+        }
+        // (3, -1)
+        t = tiles[((x + 3) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[66] == plan) {
+            costs[66] = INFINITY;
+        } else {
+            b = costs[58];
+            p = 58;
+            if (costs[57] < b) {
+                b = costs[57];
+                p = 57;
+            }
+            if (costs[56] < b) {
+                b = costs[56];
+                p = 56;
+            }
+            if (costs[65] < b) {
+                b = costs[65];
+                p = 65;
+            }
+            costs[66] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[66] = p;
+        }
+        // (3, 0)
+        t = tiles[((x + 3) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[67] == plan) {
+            costs[67] = INFINITY;
+        } else {
+            b = costs[58];
+            p = 58;
+            if (costs[57] < b) {
+                b = costs[57];
+                p = 57;
+            }
+            if (costs[59] < b) {
+                b = costs[59];
+                p = 59;
+            }
+            if (costs[66] < b) {
+                b = costs[66];
+                p = 66;
+            }
+            costs[67] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[67] = p;
+        }
+        // (3, 1)
+        t = tiles[((x + 3) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[68] == plan) {
+            costs[68] = INFINITY;
+        } else {
+            b = costs[58];
+            p = 58;
+            if (costs[59] < b) {
+                b = costs[59];
+                p = 59;
+            }
+            if (costs[60] < b) {
+                b = costs[60];
+                p = 60;
+            }
+            if (costs[67] < b) {
+                b = costs[67];
+                p = 67;
+            }
+            costs[68] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[68] = p;
+        }
+        // (3, 2)
+        t = tiles[((x + 3) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[69] == plan) {
+            costs[69] = INFINITY;
+        } else {
+            b = costs[59];
+            p = 59;
+            if (costs[60] < b) {
+                b = costs[60];
+                p = 60;
+            }
+            if (costs[68] < b) {
+                b = costs[68];
+                p = 68;
+            }
+            costs[69] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[69] = p;
+        }
+        // (3, 3)
+        t = tiles[((x + 3) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[70] == plan) {
+            costs[70] = INFINITY;
+        } else {
+            b = costs[60];
+            p = 60;
+            if (costs[69] < b) {
+                b = costs[69];
+                p = 69;
+            }
+            costs[70] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[70] = p;
+        }
+        // (2, 3)
+        t = tiles[((x + 2) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[61] == plan) {
+            costs[61] = INFINITY;
+        } else {
+            b = costs[51];
+            p = 51;
+            if (costs[60] < b) {
+                b = costs[60];
+                p = 60;
+            }
+            if (costs[69] < b) {
+                b = costs[69];
+                p = 69;
+            }
+            if (costs[70] < b) {
+                b = costs[70];
+                p = 70;
+            }
+            costs[61] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[61] = p;
+        }
+        // (1, 3)
+        t = tiles[((x + 1) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[52] == plan) {
+            costs[52] = INFINITY;
+        } else {
+            b = costs[42];
+            p = 42;
+            if (costs[51] < b) {
+                b = costs[51];
+                p = 51;
+            }
+            if (costs[60] < b) {
+                b = costs[60];
+                p = 60;
+            }
+            if (costs[61] < b) {
+                b = costs[61];
+                p = 61;
+            }
+            costs[52] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[52] = p;
+        }
+        // (0, 3)
+        t = tiles[(x & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[43] == plan) {
+            costs[43] = INFINITY;
+        } else {
+            b = costs[42];
+            p = 42;
+            if (costs[33] < b) {
+                b = costs[33];
+                p = 33;
+            }
+            if (costs[51] < b) {
+                b = costs[51];
+                p = 51;
+            }
+            if (costs[52] < b) {
+                b = costs[52];
+                p = 52;
+            }
+            costs[43] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[43] = p;
+        }
+        // (-1, 3)
+        t = tiles[((x - 1) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[34] == plan) {
+            costs[34] = INFINITY;
+        } else {
+            b = costs[42];
+            p = 42;
+            if (costs[33] < b) {
+                b = costs[33];
+                p = 33;
+            }
+            if (costs[24] < b) {
+                b = costs[24];
+                p = 24;
+            }
+            if (costs[43] < b) {
+                b = costs[43];
+                p = 43;
+            }
+            costs[34] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[34] = p;
+        }
+        // (-2, 3)
+        t = tiles[((x - 2) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[25] == plan) {
+            costs[25] = INFINITY;
+        } else {
+            b = costs[33];
+            p = 33;
+            if (costs[24] < b) {
+                b = costs[24];
+                p = 24;
+            }
+            if (costs[34] < b) {
+                b = costs[34];
+                p = 34;
+            }
+            costs[25] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[25] = p;
+        }
+        // (-3, 3)
+        t = tiles[((x - 3) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[16] == plan) {
+            costs[16] = INFINITY;
+        } else {
+            b = costs[24];
+            p = 24;
+            if (costs[25] < b) {
+                b = costs[25];
+                p = 25;
+            }
+            costs[16] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[16] = p;
+        }
+        // (-3, 2)
+        t = tiles[((x - 3) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[15] == plan) {
+            costs[15] = INFINITY;
+        } else {
+            b = costs[23];
+            p = 23;
+            if (costs[24] < b) {
+                b = costs[24];
+                p = 24;
+            }
+            if (costs[25] < b) {
+                b = costs[25];
+                p = 25;
+            }
+            if (costs[16] < b) {
+                b = costs[16];
+                p = 16;
+            }
+            costs[15] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[15] = p;
+        }
+        // (-3, 1)
+        t = tiles[((x - 3) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[14] == plan) {
+            costs[14] = INFINITY;
+        } else {
+            b = costs[22];
+            p = 22;
+            if (costs[23] < b) {
+                b = costs[23];
+                p = 23;
+            }
+            if (costs[24] < b) {
+                b = costs[24];
+                p = 24;
+            }
+            if (costs[15] < b) {
+                b = costs[15];
+                p = 15;
+            }
+            costs[14] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[14] = p;
+        }
+        // (-3, 0)
+        t = tiles[((x - 3) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[13] == plan) {
+            costs[13] = INFINITY;
+        } else {
+            b = costs[22];
+            p = 22;
+            if (costs[21] < b) {
+                b = costs[21];
+                p = 21;
+            }
+            if (costs[23] < b) {
+                b = costs[23];
+                p = 23;
+            }
+            if (costs[14] < b) {
+                b = costs[14];
+                p = 14;
+            }
+            costs[13] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[13] = p;
+        }
+        // (-3, -1)
+        t = tiles[((x - 3) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[12] == plan) {
+            costs[12] = INFINITY;
+        } else {
+            b = costs[22];
+            p = 22;
+            if (costs[21] < b) {
+                b = costs[21];
+                p = 21;
+            }
+            if (costs[20] < b) {
+                b = costs[20];
+                p = 20;
+            }
+            if (costs[13] < b) {
+                b = costs[13];
+                p = 13;
+            }
+            costs[12] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[12] = p;
+        }
+        // (-3, -2)
+        t = tiles[((x - 3) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[11] == plan) {
+            costs[11] = INFINITY;
+        } else {
+            b = costs[21];
+            p = 21;
+            if (costs[20] < b) {
+                b = costs[20];
+                p = 20;
+            }
+            if (costs[12] < b) {
+                b = costs[12];
+                p = 12;
+            }
+            if (costs[19] < b) {
+                b = costs[19];
+                p = 19;
+            }
+            if (costs[10] < b) {
+                b = costs[10];
+                p = 10;
+            }
+            costs[11] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[11] = p;
+        }
+    }
+
+    private static void relax4(byte[] tiles, int x, int y, int[] costs, int[] parents, int[] occupied, int plan) {
+        byte t;
+        int b, p;
+        // (-4, -4)
+        t = tiles[((x - 4) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[0] == plan) {
+            costs[0] = INFINITY;
+        } else {
+            b = costs[10];
+            p = 10;
+            costs[0] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[0] = p;
+        }
+        // (-3, -4)
+        t = tiles[((x - 3) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[9] == plan) {
+            costs[9] = INFINITY;
+        } else {
+            b = costs[19];
+            p = 19;
+            if (costs[10] < b) {
+                b = costs[10];
+                p = 10;
+            }
+            if (costs[0] < b) {
+                b = costs[0];
+                p = 0;
+            }
+            costs[9] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[9] = p;
+        }
+        // (-2, -4)
+        t = tiles[((x - 2) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[18] == plan) {
+            costs[18] = INFINITY;
+        } else {
+            b = costs[28];
+            p = 28;
+            if (costs[19] < b) {
+                b = costs[19];
+                p = 19;
+            }
+            if (costs[10] < b) {
+                b = costs[10];
+                p = 10;
+            }
+            if (costs[9] < b) {
+                b = costs[9];
+                p = 9;
+            }
+            costs[18] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[18] = p;
+        }
+        // (-1, -4)
+        t = tiles[((x - 1) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[27] == plan) {
+            costs[27] = INFINITY;
+        } else {
+            b = costs[37];
+            p = 37;
+            if (costs[28] < b) {
+                b = costs[28];
+                p = 28;
+            }
+            if (costs[19] < b) {
+                b = costs[19];
+                p = 19;
+            }
+            if (costs[18] < b) {
+                b = costs[18];
+                p = 18;
+            }
+            costs[27] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[27] = p;
+        }
+        // (0, -4)
+        t = tiles[(x & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[36] == plan) {
+            costs[36] = INFINITY;
+        } else {
+            b = costs[37];
+            p = 37;
+            if (costs[28] < b) {
+                b = costs[28];
+                p = 28;
+            }
+            if (costs[46] < b) {
+                b = costs[46];
+                p = 46;
+            }
+            if (costs[27] < b) {
+                b = costs[27];
+                p = 27;
+            }
+            costs[36] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[36] = p;
+        }
+        // (1, -4)
+        t = tiles[((x + 1) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[45] == plan) {
+            costs[45] = INFINITY;
+        } else {
+            b = costs[37];
+            p = 37;
+            if (costs[46] < b) {
+                b = costs[46];
+                p = 46;
+            }
+            if (costs[55] < b) {
+                b = costs[55];
+                p = 55;
+            }
+            if (costs[36] < b) {
+                b = costs[36];
+                p = 36;
+            }
+            costs[45] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[45] = p;
+        }
+        // (2, -4)
+        t = tiles[((x + 2) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[54] == plan) {
+            costs[54] = INFINITY;
+        } else {
+            b = costs[46];
+            p = 46;
+            if (costs[55] < b) {
+                b = costs[55];
+                p = 55;
+            }
+            if (costs[45] < b) {
+                b = costs[45];
+                p = 45;
+            }
+            if (costs[64] < b) {
+                b = costs[64];
+                p = 64;
+            }
+            costs[54] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[54] = p;
+        }
+        // (3, -4)
+        t = tiles[((x + 3) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[63] == plan) {
+            costs[63] = INFINITY;
+        } else {
+            b = costs[55];
+            p = 55;
+            if (costs[64] < b) {
+                b = costs[64];
+                p = 64;
+            }
+            if (costs[54] < b) {
+                b = costs[54];
+                p = 54;
+            }
+            costs[63] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[63] = p;
+        }
+        // (4, -4)
+        t = tiles[((x + 4) & 127) << 7 | ((y - 4) & 127)];
+        if (t == OFF_MAP || occupied[72] == plan) {
+            costs[72] = INFINITY;
+        } else {
+            b = costs[64];
+            p = 64;
+            if (costs[63] < b) {
+                b = costs[63];
+                p = 63;
+            }
+            costs[72] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[72] = p;
+        }
+        // (4, -3)
+        t = tiles[((x + 4) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[73] == plan) {
+            costs[73] = INFINITY;
+        } else {
+            b = costs[65];
+            p = 65;
+            if (costs[64] < b) {
+                b = costs[64];
+                p = 64;
+            }
+            if (costs[63] < b) {
+                b = costs[63];
+                p = 63;
+            }
+            if (costs[72] < b) {
+                b = costs[72];
+                p = 72;
+            }
+            costs[73] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[73] = p;
+        }
+        // (4, -2)
+        t = tiles[((x + 4) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[74] == plan) {
+            costs[74] = INFINITY;
+        } else {
+            b = costs[66];
+            p = 66;
+            if (costs[65] < b) {
+                b = costs[65];
+                p = 65;
+            }
+            if (costs[64] < b) {
+                b = costs[64];
+                p = 64;
+            }
+            if (costs[73] < b) {
+                b = costs[73];
+                p = 73;
+            }
+            costs[74] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[74] = p;
+        }
+        // (4, -1)
+        t = tiles[((x + 4) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[75] == plan) {
+            costs[75] = INFINITY;
+        } else {
+            b = costs[67];
+            p = 67;
+            if (costs[66] < b) {
+                b = costs[66];
+                p = 66;
+            }
+            if (costs[65] < b) {
+                b = costs[65];
+                p = 65;
+            }
+            if (costs[74] < b) {
+                b = costs[74];
+                p = 74;
+            }
+            costs[75] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[75] = p;
+        }
+        // (4, 0)
+        t = tiles[((x + 4) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[76] == plan) {
+            costs[76] = INFINITY;
+        } else {
+            b = costs[67];
+            p = 67;
+            if (costs[66] < b) {
+                b = costs[66];
+                p = 66;
+            }
+            if (costs[68] < b) {
+                b = costs[68];
+                p = 68;
+            }
+            if (costs[75] < b) {
+                b = costs[75];
+                p = 75;
+            }
+            costs[76] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[76] = p;
+        }
+        // (4, 1)
+        t = tiles[((x + 4) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[77] == plan) {
+            costs[77] = INFINITY;
+        } else {
+            b = costs[67];
+            p = 67;
+            if (costs[68] < b) {
+                b = costs[68];
+                p = 68;
+            }
+            if (costs[69] < b) {
+                b = costs[69];
+                p = 69;
+            }
+            if (costs[76] < b) {
+                b = costs[76];
+                p = 76;
+            }
+            costs[77] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[77] = p;
+        }
+        // (4, 2)
+        t = tiles[((x + 4) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[78] == plan) {
+            costs[78] = INFINITY;
+        } else {
+            b = costs[68];
+            p = 68;
+            if (costs[69] < b) {
+                b = costs[69];
+                p = 69;
+            }
+            if (costs[77] < b) {
+                b = costs[77];
+                p = 77;
+            }
+            if (costs[70] < b) {
+                b = costs[70];
+                p = 70;
+            }
+            costs[78] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[78] = p;
+        }
+        // (4, 3)
+        t = tiles[((x + 4) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[79] == plan) {
+            costs[79] = INFINITY;
+        } else {
+            b = costs[69];
+            p = 69;
+            if (costs[70] < b) {
+                b = costs[70];
+                p = 70;
+            }
+            if (costs[78] < b) {
+                b = costs[78];
+                p = 78;
+            }
+            costs[79] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[79] = p;
+        }
+        // (4, 4)
+        t = tiles[((x + 4) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[80] == plan) {
+            costs[80] = INFINITY;
+        } else {
+            b = costs[70];
+            p = 70;
+            if (costs[79] < b) {
+                b = costs[79];
+                p = 79;
+            }
+            costs[80] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[80] = p;
+        }
+        // (3, 4)
+        t = tiles[((x + 3) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[71] == plan) {
+            costs[71] = INFINITY;
+        } else {
+            b = costs[61];
+            p = 61;
+            if (costs[70] < b) {
+                b = costs[70];
+                p = 70;
+            }
+            if (costs[79] < b) {
+                b = costs[79];
+                p = 79;
+            }
+            if (costs[80] < b) {
+                b = costs[80];
+                p = 80;
+            }
+            costs[71] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[71] = p;
+        }
+        // (2, 4)
+        t = tiles[((x + 2) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[62] == plan) {
+            costs[62] = INFINITY;
+        } else {
+            b = costs[52];
+            p = 52;
+            if (costs[61] < b) {
+                b = costs[61];
+                p = 61;
+            }
+            if (costs[70] < b) {
+                b = costs[70];
+                p = 70;
+            }
+            if (costs[71] < b) {
+                b = costs[71];
+                p = 71;
+            }
+            costs[62] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[62] = p;
+        }
+        // (1, 4)
+        t = tiles[((x + 1) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[53] == plan) {
+            costs[53] = INFINITY;
+        } else {
+            b = costs[43];
+            p = 43;
+            if (costs[52] < b) {
+                b = costs[52];
+                p = 52;
+            }
+            if (costs[61] < b) {
+                b = costs[61];
+                p = 61;
+            }
+            if (costs[62] < b) {
+                b = costs[62];
+                p = 62;
+            }
+            costs[53] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[53] = p;
+        }
+        // (0, 4)
+        t = tiles[(x & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[44] == plan) {
+            costs[44] = INFINITY;
+        } else {
+            b = costs[43];
+            p = 43;
+            if (costs[34] < b) {
+                b = costs[34];
+                p = 34;
+            }
+            if (costs[52] < b) {
+                b = costs[52];
+                p = 52;
+            }
+            if (costs[53] < b) {
+                b = costs[53];
+                p = 53;
+            }
+            costs[44] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[44] = p;
+        }
+        // (-1, 4)
+        t = tiles[((x - 1) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[35] == plan) {
+            costs[35] = INFINITY;
+        } else {
+            b = costs[43];
+            p = 43;
+            if (costs[34] < b) {
+                b = costs[34];
+                p = 34;
+            }
+            if (costs[25] < b) {
+                b = costs[25];
+                p = 25;
+            }
+            if (costs[44] < b) {
+                b = costs[44];
+                p = 44;
+            }
+            costs[35] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[35] = p;
+        }
+        // (-2, 4)
+        t = tiles[((x - 2) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[26] == plan) {
+            costs[26] = INFINITY;
+        } else {
+            b = costs[34];
+            p = 34;
+            if (costs[25] < b) {
+                b = costs[25];
+                p = 25;
+            }
+            if (costs[35] < b) {
+                b = costs[35];
+                p = 35;
+            }
+            if (costs[16] < b) {
+                b = costs[16];
+                p = 16;
+            }
+            costs[26] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[26] = p;
+        }
+        // (-3, 4)
+        t = tiles[((x - 3) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[17] == plan) {
+            costs[17] = INFINITY;
+        } else {
+            b = costs[25];
+            p = 25;
+            if (costs[16] < b) {
+                b = costs[16];
+                p = 16;
+            }
+            if (costs[26] < b) {
+                b = costs[26];
+                p = 26;
+            }
+            costs[17] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[17] = p;
+        }
+        // (-4, 4)
+        t = tiles[((x - 4) & 127) << 7 | ((y + 4) & 127)];
+        if (t == OFF_MAP || occupied[8] == plan) {
+            costs[8] = INFINITY;
+        } else {
+            b = costs[16];
+            p = 16;
+            if (costs[17] < b) {
+                b = costs[17];
+                p = 17;
+            }
+            costs[8] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[8] = p;
+        }
+        // (-4, 3)
+        t = tiles[((x - 4) & 127) << 7 | ((y + 3) & 127)];
+        if (t == OFF_MAP || occupied[7] == plan) {
+            costs[7] = INFINITY;
+        } else {
+            b = costs[15];
+            p = 15;
+            if (costs[16] < b) {
+                b = costs[16];
+                p = 16;
+            }
+            if (costs[17] < b) {
+                b = costs[17];
+                p = 17;
+            }
+            if (costs[8] < b) {
+                b = costs[8];
+                p = 8;
+            }
+            costs[7] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[7] = p;
+        }
+        // (-4, 2)
+        t = tiles[((x - 4) & 127) << 7 | ((y + 2) & 127)];
+        if (t == OFF_MAP || occupied[6] == plan) {
+            costs[6] = INFINITY;
+        } else {
+            b = costs[14];
+            p = 14;
+            if (costs[15] < b) {
+                b = costs[15];
+                p = 15;
+            }
+            if (costs[16] < b) {
+                b = costs[16];
+                p = 16;
+            }
+            if (costs[7] < b) {
+                b = costs[7];
+                p = 7;
+            }
+            costs[6] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[6] = p;
+        }
+        // (-4, 1)
+        t = tiles[((x - 4) & 127) << 7 | ((y + 1) & 127)];
+        if (t == OFF_MAP || occupied[5] == plan) {
+            costs[5] = INFINITY;
+        } else {
+            b = costs[13];
+            p = 13;
+            if (costs[14] < b) {
+                b = costs[14];
+                p = 14;
+            }
+            if (costs[15] < b) {
+                b = costs[15];
+                p = 15;
+            }
+            if (costs[6] < b) {
+                b = costs[6];
+                p = 6;
+            }
+            costs[5] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[5] = p;
+        }
+        // (-4, 0)
+        t = tiles[((x - 4) & 127) << 7 | (y & 127)];
+        if (t == OFF_MAP || occupied[4] == plan) {
+            costs[4] = INFINITY;
+        } else {
+            b = costs[13];
+            p = 13;
+            if (costs[12] < b) {
+                b = costs[12];
+                p = 12;
+            }
+            if (costs[14] < b) {
+                b = costs[14];
+                p = 14;
+            }
+            if (costs[5] < b) {
+                b = costs[5];
+                p = 5;
+            }
+            costs[4] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[4] = p;
+        }
+        // (-4, -1)
+        t = tiles[((x - 4) & 127) << 7 | ((y - 1) & 127)];
+        if (t == OFF_MAP || occupied[3] == plan) {
+            costs[3] = INFINITY;
+        } else {
+            b = costs[13];
+            p = 13;
+            if (costs[12] < b) {
+                b = costs[12];
+                p = 12;
+            }
+            if (costs[11] < b) {
+                b = costs[11];
+                p = 11;
+            }
+            if (costs[4] < b) {
+                b = costs[4];
+                p = 4;
+            }
+            costs[3] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[3] = p;
+        }
+        // (-4, -2)
+        t = tiles[((x - 4) & 127) << 7 | ((y - 2) & 127)];
+        if (t == OFF_MAP || occupied[2] == plan) {
+            costs[2] = INFINITY;
+        } else {
+            b = costs[12];
+            p = 12;
+            if (costs[11] < b) {
+                b = costs[11];
+                p = 11;
+            }
+            if (costs[3] < b) {
+                b = costs[3];
+                p = 3;
+            }
+            if (costs[10] < b) {
+                b = costs[10];
+                p = 10;
+            }
+            costs[2] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[2] = p;
+        }
+        // (-4, -3)
+        t = tiles[((x - 4) & 127) << 7 | ((y - 3) & 127)];
+        if (t == OFF_MAP || occupied[1] == plan) {
+            costs[1] = INFINITY;
+        } else {
+            b = costs[11];
+            p = 11;
+            if (costs[10] < b) {
+                b = costs[10];
+                p = 10;
+            }
+            if (costs[2] < b) {
+                b = costs[2];
+                p = 2;
+            }
+            if (costs[9] < b) {
+                b = costs[9];
+                p = 9;
+            }
+            if (costs[0] < b) {
+                b = costs[0];
+                p = 0;
+            }
+            costs[1] = b == INFINITY ? INFINITY : b + (t == UNKNOWN ? UNKNOWN_COST : 1000 / t);
+            parents[1] = p;
+        }
+    }
+
+}
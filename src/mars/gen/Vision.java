@@ -0,0 +1,1758 @@
+// Generated by ./gradlew generateSources from buildSrc/src/main/java/codegen/SourceGenerator.java, do not edit.
+package mars.gen;
+
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotController;
+
+/**
+ * Senses the unknown tiles in sensor range, or those that became visible by moving a single step, into a tile array of
+ * mars.util.TerrainCache. The offsets are unrolled per sensor radius squared:
+ * 40 (ENLIGHTENMENT_CENTER), 25 (POLITICIAN), 20 (SLANDERER), 30 (MUCKRAKER).
+ */
+public final strictfp class Vision {
+
+    public static final byte UNKNOWN = 0, OFF_MAP = -1;
+
+    private Vision() {
+    }
+
+    /**
+     * Senses the unknown tiles within [radiusSquared] of (x, y).
+     */
+    public static void senseAll(int radiusSquared, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        switch (radiusSquared) {
+            case 40:
+                senseAll40(rc, tiles, x, y);
+                return;
+            case 25:
+                senseAll25(rc, tiles, x, y);
+                return;
+            case 20:
+                senseAll20(rc, tiles, x, y);
+                return;
+            case 30:
+                senseAll30(rc, tiles, x, y);
+                return;
+            default:
+                throw new IllegalArgumentException("no vision for radius squared " + radiusSquared);
+        }
+    }
+
+    /**
+     * Senses the unknown tiles within [radiusSquared] of (x, y) that were not within it before moving in the direction
+     * with ordinal [direction].
+     */
+    public static void senseDelta(int radiusSquared, int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        switch (radiusSquared) {
+            case 40:
+                senseDelta40(direction, rc, tiles, x, y);
+                return;
+            case 25:
+                senseDelta25(direction, rc, tiles, x, y);
+                return;
+            case 20:
+                senseDelta20(direction, rc, tiles, x, y);
+                return;
+            case 30:
+                senseDelta30(direction, rc, tiles, x, y);
+                return;
+            default:
+                throw new IllegalArgumentException("no vision for radius squared " + radiusSquared);
+        }
+    }
+
+    private static void senseAll40(RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        if (tiles[i = ((x - 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 6, y - 2);
+        if (tiles[i = ((x - 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 6, y - 1);
+        if (tiles[i = ((x - 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 6, y);
+        if (tiles[i = ((x - 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 6, y + 1);
+        if (tiles[i = ((x - 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 6, y + 2);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y - 3);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y - 2);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y - 1);
+        if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y + 1);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y + 2);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y + 3);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 4);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 3);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 3);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 4);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 5);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 4);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 4);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 5);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 6);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 5);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 5);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 6);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 6);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 5);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 5);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 6);
+        if (tiles[i = (x & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 6);
+        if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 5);
+        if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 4);
+        if (tiles[i = (x & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 3);
+        if (tiles[i = (x & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 2);
+        if (tiles[i = (x & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 1);
+        if (tiles[i = (x & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y);
+        if (tiles[i = (x & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 1);
+        if (tiles[i = (x & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 2);
+        if (tiles[i = (x & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 3);
+        if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 4);
+        if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 5);
+        if (tiles[i = (x & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 6);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 6);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 5);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 5);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 6);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 6);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 5);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 5);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 6);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 5);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 4);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 4);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 5);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 4);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 3);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 3);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 4);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y - 3);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y - 2);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y - 1);
+        if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y + 1);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y + 2);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y + 3);
+        if (tiles[i = ((x + 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 6, y - 2);
+        if (tiles[i = ((x + 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 6, y - 1);
+        if (tiles[i = ((x + 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 6, y);
+        if (tiles[i = ((x + 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 6, y + 1);
+        if (tiles[i = ((x + 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 6, y + 2);
+    }
+
+    private static void senseDelta40(int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        switch (direction) {
+            case 0: // NORTH
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 6);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 6);
+                if (tiles[i = (x & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 6);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 6);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 5);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 4);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 3);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 2);
+                return;
+            case 1: // NORTHEAST
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 6);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 6);
+                if (tiles[i = (x & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 6);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 6);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 5);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 4);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 2);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 3);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 2);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 1);
+                if (tiles[i = ((x + 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 1);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 2);
+                return;
+            case 2: // EAST
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 6);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 5);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 4);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 3);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 2);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 1);
+                if (tiles[i = ((x + 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 1);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 2);
+                return;
+            case 3: // SOUTHEAST
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 6);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 6);
+                if (tiles[i = (x & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 6);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 2);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 2);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 1);
+                if (tiles[i = ((x + 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 1);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y + 2);
+                return;
+            case 4: // SOUTH
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 6);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 6);
+                if (tiles[i = (x & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 6);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 6);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 5);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 4);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 3);
+                if (tiles[i = ((x + 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 6, y - 2);
+                return;
+            case 5: // SOUTHWEST
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 2);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 1);
+                if (tiles[i = ((x - 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 1);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 3);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 4);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 5);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 6);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 5);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 6);
+                if (tiles[i = (x & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 6);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 6);
+                return;
+            case 6: // WEST
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 2);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 1);
+                if (tiles[i = ((x - 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 1);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 3);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 4);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 5);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 6);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 6);
+                return;
+            case 7: // NORTHWEST
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 2);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y - 1);
+                if (tiles[i = ((x - 6) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 1);
+                if (tiles[i = ((x - 6) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 6, y + 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 6);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 6);
+                if (tiles[i = (x & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 6);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 6);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 6) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 6);
+                return;
+        }
+    }
+
+    private static void senseAll25(RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 3);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 4);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 4);
+        if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 5);
+        if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 4);
+        if (tiles[i = (x & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 3);
+        if (tiles[i = (x & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 2);
+        if (tiles[i = (x & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 1);
+        if (tiles[i = (x & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y);
+        if (tiles[i = (x & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 1);
+        if (tiles[i = (x & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 2);
+        if (tiles[i = (x & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 3);
+        if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 4);
+        if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 5);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 4);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 4);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 4);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 3);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 3);
+        if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y);
+    }
+
+    private static void senseDelta25(int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        switch (direction) {
+            case 0: // NORTH
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                return;
+            case 1: // NORTHEAST
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 3);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                return;
+            case 2: // EAST
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                return;
+            case 3: // SOUTHEAST
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                return;
+            case 4: // SOUTH
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                return;
+            case 5: // SOUTHWEST
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                return;
+            case 6: // WEST
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                return;
+            case 7: // NORTHWEST
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                return;
+        }
+    }
+
+    private static void senseAll20(RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 4);
+        if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 4);
+        if (tiles[i = (x & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 3);
+        if (tiles[i = (x & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 2);
+        if (tiles[i = (x & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 1);
+        if (tiles[i = (x & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y);
+        if (tiles[i = (x & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 1);
+        if (tiles[i = (x & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 2);
+        if (tiles[i = (x & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 3);
+        if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 4);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 3);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 2);
+    }
+
+    private static void senseDelta20(int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        switch (direction) {
+            case 0: // NORTH
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                return;
+            case 1: // NORTHEAST
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 3);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 2);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                return;
+            case 2: // EAST
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 3);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                return;
+            case 3: // SOUTHEAST
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 3);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 3);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 1);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                return;
+            case 4: // SOUTH
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                return;
+            case 5: // SOUTHWEST
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 2);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 3);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 4);
+                if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                return;
+            case 6: // WEST
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                return;
+            case 7: // NORTHWEST
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 1);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 4);
+                if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 4);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                return;
+        }
+    }
+
+    private static void senseAll30(RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y - 2);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y - 1);
+        if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y + 1);
+        if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 5, y + 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 3);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y - 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 1);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 2);
+        if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 4, y + 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 4);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y - 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 1);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 2);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 3);
+        if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 3, y + 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 5);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y - 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 1);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 2);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 3);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 4);
+        if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 2, y + 5);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 5);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y - 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 1);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 2);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 3);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 4);
+        if (tiles[i = ((x - 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x - 1, y + 5);
+        if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 5);
+        if (tiles[i = (x & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 4);
+        if (tiles[i = (x & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 3);
+        if (tiles[i = (x & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 2);
+        if (tiles[i = (x & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y - 1);
+        if (tiles[i = (x & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y);
+        if (tiles[i = (x & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 1);
+        if (tiles[i = (x & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 2);
+        if (tiles[i = (x & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 3);
+        if (tiles[i = (x & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 4);
+        if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x, y + 5);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 5);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y - 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 1);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 2);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 3);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 4);
+        if (tiles[i = ((x + 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 1, y + 5);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 5);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y - 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 1);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 2);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 3);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 4);
+        if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 2, y + 5);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 4);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y - 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 1);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 2);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 3);
+        if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 3, y + 4);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 3);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y - 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 1);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 2);
+        if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 4, y + 3);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y - 2);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y - 1);
+        if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y + 1);
+        if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+            tiles[i] = tile(rc, x + 5, y + 2);
+    }
+
+    private static void senseDelta30(int direction, RobotController rc, byte[] tiles, int x, int y) throws GameActionException {
+        int i;
+        switch (direction) {
+            case 0: // NORTH
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 5);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 5);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 2);
+                return;
+            case 1: // NORTHEAST
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 5);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 5);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 4);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 3);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 2);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 2);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 1);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 1);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 2);
+                return;
+            case 2: // EAST
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y + 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y + 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 2);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 1);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 1);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 2);
+                return;
+            case 3: // SOUTHEAST
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 5);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 2);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 2);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 1);
+                if (tiles[i = ((x + 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 1);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y + 2);
+                return;
+            case 4: // SOUTH
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 5);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 5);
+                if (tiles[i = ((x + 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 3, y - 4);
+                if (tiles[i = ((x + 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 4, y - 3);
+                if (tiles[i = ((x + 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 5, y - 2);
+                return;
+            case 5: // SOUTHWEST
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 1);
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 1);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 2);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 3);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 4);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y - 5);
+                if (tiles[i = (x & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y - 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y - 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y - 5);
+                return;
+            case 6: // WEST
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 1);
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 1);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y - 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y - 3);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y - 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y - 4);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y - 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y - 5);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 5);
+                return;
+            case 7: // NORTHWEST
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 2);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y - 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y - 1);
+                if (tiles[i = ((x - 5) & 127) << 7 | (y & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 1) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 1);
+                if (tiles[i = ((x - 5) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 5, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 2) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 2);
+                if (tiles[i = ((x - 4) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 4, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 3) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 3);
+                if (tiles[i = ((x - 3) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 3, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 4) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 4);
+                if (tiles[i = ((x - 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 2, y + 5);
+                if (tiles[i = ((x - 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x - 1, y + 5);
+                if (tiles[i = (x & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x, y + 5);
+                if (tiles[i = ((x + 1) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 1, y + 5);
+                if (tiles[i = ((x + 2) & 127) << 7 | ((y + 5) & 127)] == UNKNOWN)
+                    tiles[i] = tile(rc, x + 2, y + 5);
+                return;
+        }
+    }
+
+    private static byte tile(RobotController rc, int x, int y) throws GameActionException {
+        final MapLocation location = new MapLocation(x, y);
+        return rc.onTheMap(location) ? (byte) Math.round(rc.sensePassability(location) * 100) : OFF_MAP;
+    }
+
+}
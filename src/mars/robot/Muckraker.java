@@ -1,6 +1,11 @@
 package mars.robot;
 
 import battlecode.common.*;
+import mars.comm.FlagCodec;
+import mars.util.BorderKnowledge;
+import mars.util.LoopBound;
+import mars.util.PotentialField;
+import mars.util.SensorSnapshot;
 
 import java.util.*;
 
@@ -9,184 +14,201 @@ import static mars.Constants.*;
 
 public strictfp class Muckraker extends Unit {
 
+    private static final int
+            ALLY_EC = SensorSnapshot.kind(SensorSnapshot.ALLY, ENLIGHTENMENT_CENTER),
+            ALLY_MUCKRAKER = SensorSnapshot.kind(SensorSnapshot.ALLY, MUCKRAKER),
+            ENEMY_SLANDERER = SensorSnapshot.kind(SensorSnapshot.ENEMY, SLANDERER),
+            ENEMY_EC = SensorSnapshot.kind(SensorSnapshot.ENEMY, ENLIGHTENMENT_CENTER),
+            NEUTRAL_EC = SensorSnapshot.kind(SensorSnapshot.NEUTRAL, ENLIGHTENMENT_CENTER);
+
+    private static final int NO_BORDER = -1;
+
+    /**
+     * The communicated ECs with the id of ally ECs or minus the FlagCodec team of other ECs, so that a change of
+     * owner is communicated as well.
+     */
     private final Map<MapLocation, Integer> communicatedECs = new HashMap<>();
-    // inclusive! i.e. lies inside map
-    private int borderTop = -1;
-    private int borderRight = -1;
-    private int borderBottom = -1;
-    private int borderLeft = -1;
+    /**
+     * Friendly ECs, Muckrakers and map borders that this Muckraker wants to stay away from. Member instead of local
+     * variable so it doesn't have to be recreated every step.
+     */
+    private final PotentialField repellers = new PotentialField();
 
     public Muckraker(final RobotController rc) throws GameActionException {
         super(rc);
     }
 
     /**
-     * Tries to sense border, and stores result & transfers it to Center via flag if found. Also adds all borders
-     * (sensed or stored) to {@code repellers}.
+     * Tries to sense the borders that are not known yet, and transfers the ones that are found to Center via flag.
      */
-    private void senseBorders(final Collection<MapLocation> repellers) throws GameActionException {
-        final MapLocation location = rc.getLocation();
-        final int x = location.x;
-        final int y = location.y;
+    private void senseBorders() throws GameActionException {
+        // a border in each axis, like a corner, is sent in a single message
+        queueBorders(senseBorders(BorderKnowledge.RIGHT, BorderKnowledge.LEFT),
+                senseBorders(BorderKnowledge.TOP, BorderKnowledge.BOTTOM));
+    }
 
-        // we use the constant 5 == floor(sqrt(30)), where 30 is the Muckraker's sensor radius
-        senseBordersHorizontal(repellers, x, y);
-        senseBordersVertical(repellers, x, y);
+    /**
+     * Returns the border code of a newly found border on [side] or the [opposite] side, or NO_BORDER.
+     */
+    private int senseBorders(final int side, final int opposite) throws GameActionException {
+        // the opposite border is guaranteed to be outside sensor range if a border is found
+        if (probeBorder(side))
+            return borderCode(side);
+        if (probeBorder(opposite))
+            return borderCode(opposite);
+        return NO_BORDER;
     }
 
-    private void senseBordersHorizontal(final Collection<MapLocation> repellers, final int x, final int y)
-            throws GameActionException {
-        if (borderRight == -1) {
-            MapLocation location = new MapLocation(x + 5, y);
-            if (!rc.onTheMap(location)) {
-                do {
-                    location = location.add(Direction.WEST);
-                } while (location.x != x && !rc.onTheMap(location));
-                repellers.add(location.subtract(Direction.WEST));
-                borderRight = location.x;
-                queueSpawnMessage(F_V_NEW_BORDER | encodeCoordinate(borderRight));
-
-                if (borderLeft != -1)
-                    repellers.add(new MapLocation(borderLeft - 1, y));
-                return; // the left border is guaranteed to be outside sensor range
-            }
-        } else {
-            repellers.add(new MapLocation(borderRight + 1, y));
-        }
+    /**
+     * Returns the code of the border on [side], or NO_BORDER if it is not known.
+     */
+    private int knownBorderCode(final int side) {
+        return borders.isKnown(side) ? borderCode(side) : NO_BORDER;
+    }
 
-        if (borderLeft == -1) {
-            MapLocation location = new MapLocation(x - 5, y);
-            if (!rc.onTheMap(location)) {
-                do {
-                    location = location.add(Direction.EAST);
-                } while (location.x != x && !rc.onTheMap(location));
-                repellers.add(location.subtract(Direction.EAST));
-                borderLeft = location.x;
-                queueSpawnMessage(F_V_NEW_BORDER | encodeCoordinate(borderLeft));
-            }
-        } else {
-            repellers.add(new MapLocation(borderLeft - 1, y));
-        }
+    /**
+     * Queues a BORDERS message with the border codes [first] and [second], either of which can be NO_BORDER.
+     */
+    private void queueBorders(final int first, final int second) {
+        if (first != NO_BORDER)
+            queueSpawnMessage(FlagCodec.borders(first, second == NO_BORDER ? first : second));
+        else if (second != NO_BORDER)
+            queueSpawnMessage(FlagCodec.borders(second, second));
     }
 
-    private void senseBordersVertical(final Collection<MapLocation> repellers, final int x, final int y)
-            throws GameActionException {
-        if (borderTop == -1) {
-            MapLocation location = new MapLocation(x, y + 5);
-            if (!rc.onTheMap(location)) {
-                do {
-                    location = location.add(Direction.SOUTH);
-                } while (location.y != y && !rc.onTheMap(location));
-                repellers.add(location.subtract(Direction.SOUTH));
-                borderTop = location.y;
-                queueSpawnMessage(F_V_NEW_BORDER | F_B_COORDINATE_TYPE | encodeCoordinate(borderTop));
-
-                if (borderBottom != -1)
-                    repellers.add(new MapLocation(x, borderBottom - 1));
-                return; // the bottom border is guaranteed to be outside sensor range
-            }
-        } else {
-            repellers.add(new MapLocation(x, borderTop + 1));
-        }
+    /**
+     * Adds the known borders to {@code repellers}. The tiles just outside the map, in line with this robot, act as repellers.
+     */
+    private void addBorderRepellers(final int x, final int y) {
+        final BorderKnowledge borders = this.borders;
+        if (borders.isKnown(BorderKnowledge.RIGHT))
+            repellers.addVerticalLine(borders.get(BorderKnowledge.RIGHT) + 1 - x);
+        if (borders.isKnown(BorderKnowledge.LEFT))
+            repellers.addVerticalLine(borders.get(BorderKnowledge.LEFT) - 1 - x);
+        if (borders.isKnown(BorderKnowledge.TOP))
+            repellers.addHorizontalLine(borders.get(BorderKnowledge.TOP) + 1 - y);
+        if (borders.isKnown(BorderKnowledge.BOTTOM))
+            repellers.addHorizontalLine(borders.get(BorderKnowledge.BOTTOM) - 1 - y);
+    }
 
-        if (borderBottom == -1) {
-            MapLocation location = new MapLocation(x, y - 5);
-            if (!rc.onTheMap(location)) {
-                do {
-                    location = location.add(Direction.NORTH);
-                } while (location.y != y && !rc.onTheMap(location));
-                repellers.add(location.subtract(Direction.NORTH));
-                borderBottom = location.y;
-                queueSpawnMessage(F_V_NEW_BORDER | F_B_COORDINATE_TYPE | encodeCoordinate(borderBottom));
-            }
-        } else {
-            repellers.add(new MapLocation(x, borderBottom - 1));
-        }
+    /**
+     * Returns the value of the sensed EC [r] of [kind] in {@code communicatedECs}.
+     */
+    private static int ecValue(final RobotInfo r, final int kind) {
+        return kind == ALLY_EC ? r.ID : kind == ENEMY_EC ? -FlagCodec.TEAM_ENEMY : -FlagCodec.TEAM_NEUTRAL;
     }
 
     /**
-     * Calculates direction where the least number of repellers are located, and tries to move towards it.
+     * Returns whether the sensed EC [r] of [kind] is our spawn or was communicated with its current owner before.
      */
-    private void spreadOut(final Iterable<MapLocation> repellers) throws GameActionException {
-        final float[] score = new float[ALL_DIRECTIONS.length];
-        for (int i = 0; i < score.length; i++) {
-            final MapLocation location = rc.getLocation().add(ALL_DIRECTIONS[i]);
-            // distanceSquaredTo(location) might be 0, and 1.0 / (int) 0 = +Inf. This is not a problem, however, since
-            // we find the minimum, which filters out +Inf.
-            for (final MapLocation r : repellers)
-                score[i] += 1.0 / r.distanceSquaredTo(location);
-        }
+    private boolean isCommunicated(final RobotInfo r, final int kind) {
+        if (r.location.equals(spawnLocation))
+            return true;
+        final Integer communicated = communicatedECs.get(r.location);
+        return communicated != null && communicated == ecValue(r, kind);
+    }
 
-        int best = 0;
-        for (int i = 1; i < score.length; i++) // skips i = 0
-            if (score[i] < score[best])
-                best = i;
+    /**
+     * Communicates the location and id of the sensed EC [r] of [kind].
+     */
+    private void communicateEC(final RobotInfo r, final int kind) {
+        final int value = ecValue(r, kind);
+        if (queueECMessages(r.location, value))
+            communicatedECs.put(r.location, value);
+    }
 
-        tryMove(ALL_DIRECTIONS[best]);
+    /**
+     * Moves to the direction where the repulsion of the {@code repellers} is lowest.
+     */
+    private void spreadOut() throws GameActionException {
+        tryMove(ALL_DIRECTIONS[repellers.best()]);
     }
 
     @Override
+    @LoopBound(LoopBound.ROBOTS)
     protected void step() throws GameActionException {
         RobotInfo bestSlanderer = null;
-        final List<MapLocation> repellers = new ArrayList<>();
+        final MapLocation location = rc.getLocation();
+        repellers.reset();
 
         // 1. Find non-friendly Centers (& set flag if found), find closest & most valuable Slanderer, and scan for
-        //    friendly Centers and Muckrakers that will act as repellers.
-        for (final RobotInfo r : rc.senseNearbyRobots()) {
-            if (r.team == rc.getTeam()) {
-                if (r.type == ENLIGHTENMENT_CENTER || r.type == MUCKRAKER)
-                    repellers.add(r.location);
-            } else {
-                if (r.type == SLANDERER) {
-                    // Ideally, you'd want to target the youngest slanderer <50 turns old first, or else the oldest >=50
-                    // turns. However, their age cannot be accurately determined, so we just target the closest one.
-                    if (bestSlanderer == null || r.influence > bestSlanderer.influence ||
-                            (r.influence == bestSlanderer.influence && isCloser(r.location, bestSlanderer.location))) {
-                        bestSlanderer = r;
-                    }
-                }
-            }
-
-            if (r.type == ENLIGHTENMENT_CENTER && !r.location.equals(spawnLocation)) {
-                // communicate the location and id of this found EC
-                Integer id = r.team == rc.getTeam() ? r.ID : null;
-                if (!communicatedECs.containsKey(r.location) || !Objects.equals(communicatedECs.get(r.location), id)) {
-                    communicatedECs.put(r.location, id);
-                    queueSpawnMessage(F_V_NEW_EC_COORDINATES | encodeLocation(r.location));
-                    if (id != null && r.ID <= F_M_ID)
-                        queueSpawnMessage(F_V_NEW_EC_ID | r.ID);
+        //    friendly Centers and Muckrakers that will act as repellers, in a single pass over the sensed robots.
+        final SensorSnapshot sensor = this.sensor;
+        final RobotInfo[] robots = sensor.robots;
+        final int[] kinds = sensor.kinds;
+        final int[] distances = sensor.distances;
+
+        // Ideally, you'd want to target the youngest slanderer <50 turns old first, or else the oldest >=50
+        // turns. However, their age cannot be accurately determined, so we just target the closest one.
+        int bestSlandererDistance = Integer.MAX_VALUE;
+        // the spawn reads one message per round, so a single new EC is queued per turn and the others follow later
+        int newEC = -1;
+        for (int i = 0, size = sensor.size; i < size; i++) {
+            final int kind = kinds[i];
+            final RobotInfo r = robots[i];
+            if (kind == ALLY_MUCKRAKER) {
+                repellers.add(r.location.x - location.x, r.location.y - location.y);
+            } else if (kind == ENEMY_SLANDERER) {
+                if (bestSlanderer == null || r.influence > bestSlanderer.influence ||
+                        (r.influence == bestSlanderer.influence && distances[i] < bestSlandererDistance)) {
+                    bestSlanderer = r;
+                    bestSlandererDistance = distances[i];
                 }
+            } else if (kind == ALLY_EC) {
+                repellers.add(r.location.x - location.x, r.location.y - location.y);
+                if (newEC < 0 && !isCommunicated(r, kind))
+                    newEC = i;
+            } else if ((kind == ENEMY_EC || kind == NEUTRAL_EC) && newEC < 0 && !isCommunicated(r, kind)) {
+                newEC = i;
             }
         }
+        if (newEC >= 0)
+            communicateEC(robots[newEC], kinds[newEC]);
 
         // 2. Kill closest & most valuable Slanderer (if we found one).
         if (bestSlanderer != null && tryExpose(bestSlanderer.location)) return;
 
-        // 3. Sense borders (or read from cache) to add as repellers and send to Center.
-        senseBorders(repellers);
+        // 3. Sense the unknown borders to add as repellers and send to Center.
+        senseBorders();
+        addBorderRepellers(location.x, location.y);
 
         // 4. Move to least 'crowded' area.
-        spreadOut(repellers);
+        spreadOut();
     }
 
     @Override
+    @LoopBound(LoopBound.ECS)
     protected void onNewSpawn() {
         // resend EC information
-        for (Map.Entry<MapLocation, Integer> ec : communicatedECs.entrySet()) {
-            queueSpawnMessage(F_V_NEW_EC_COORDINATES | encodeLocation(ec.getKey()));
-            if (ec.getValue() != null && ec.getValue() <= F_M_ID)
-                queueSpawnMessage(F_V_NEW_EC_ID | ec.getValue());
-        }
+        for (Map.Entry<MapLocation, Integer> ec : communicatedECs.entrySet())
+            queueECMessages(ec.getKey(), ec.getValue());
 
-        // resend border information
-        if (borderRight != -1)
-            queueSpawnMessage(F_V_NEW_BORDER | encodeCoordinate(borderRight));
-        if (borderLeft != -1)
-            queueSpawnMessage(F_V_NEW_BORDER | encodeCoordinate(borderLeft));
-        if (borderTop != -1)
-            queueSpawnMessage(F_V_NEW_BORDER | F_B_COORDINATE_TYPE | encodeCoordinate(borderTop));
-        if (borderBottom != -1)
-            queueSpawnMessage(F_V_NEW_BORDER | F_B_COORDINATE_TYPE | encodeCoordinate(borderBottom));
+        // resend border information, two borders per message
+        queueBorders(knownBorderCode(BorderKnowledge.LEFT), knownBorderCode(BorderKnowledge.BOTTOM));
+        queueBorders(knownBorderCode(BorderKnowledge.RIGHT), knownBorderCode(BorderKnowledge.TOP));
+    }
+
+    /**
+     * Queues an EC_FOUND message of the EC at [location], replacing messages about the same EC that are still pending.
+     * The [value] is the id of an ally EC or minus the FlagCodec team of another EC. The id of an ally EC is sent in a
+     * separate F_V_NEW_EC_ID message if it does not fit as delta to the id of our spawn.
+     *
+     * @return false if the queue did not have space for the messages.
+     */
+    private boolean queueECMessages(final MapLocation location, final int value) {
+        // without a spawn the messages would be dropped, they are sent again once a new spawn is set
+        if (spawnLocation == null)
+            return true;
+        final int team = value < 0 ? -value : FlagCodec.TEAM_ALLY;
+        final int idDelta = value >= 0 && FlagCodec.fitsIdDelta(value - spawnId) ? value - spawnId : FlagCodec.NO_ID_DELTA;
+        final int found = FlagCodec.ecFound(team, idDelta, location.x - spawnLocation.x, location.y - spawnLocation.y);
+        supersedeSpawnMessages(found, F_M_ACTION | FlagCodec.EC_FOUND_LOCATION, F_V_NEW_EC_ID, F_M_ACTION);
+        if (spawnMessageSpace() < 2)
+            return false;
+        queueSpawnMessage(found);
+        if (team == FlagCodec.TEAM_ALLY && idDelta == FlagCodec.NO_ID_DELTA && value <= F_M_ID)
+            queueSpawnMessage(F_V_NEW_EC_ID | value);
+        return true;
     }
 
     /**
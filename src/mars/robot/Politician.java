@@ -4,25 +4,29 @@ import battlecode.common.GameActionException;
 import battlecode.common.MapLocation;
 import battlecode.common.RobotController;
 import battlecode.common.RobotInfo;
-
-import java.util.Arrays;
+import battlecode.common.Team;
+import mars.util.EmpowerSimulator;
+import mars.util.LoopBound;
+import mars.util.SensorSnapshot;
 
 import static battlecode.common.RobotType.*;
 import static mars.Constants.*;
 
 public strictfp class Politician extends Unit {
 
-    private final Type type;
+    private static final int ENEMY_MUCKRAKER = SensorSnapshot.kind(SensorSnapshot.ENEMY, MUCKRAKER);
+
     /**
-     * Max conviction of all enemy units within some distance squared. Member instead of local variable so it doesn't
-     * have to be recreated every step. Value at index 0 not used.
+     * The empower simulation stops when fewer bytecodes are left, so that the politician can still move.
      */
-    private final int[] maxEnemyConviction = new int[POLITICIAN.actionRadiusSquared + 1];
+    private static final int EMPOWER_BYTECODE_CAP = 2000;
+
+    private final EmpowerSimulator empowerSimulator = new EmpowerSimulator(EMPOWER_BYTECODE_CAP);
+
     /**
-     * Number of units (both teams!) within some distance squared. Member instead of local variable so it doesn't have
-     * to be recreated every step. Value at index 0 not used.
+     * Type of this politician, determined in init() from the instruction of the spawn, unless set by the constructor.
      */
-    private final int[] unitCount = new int[POLITICIAN.actionRadiusSquared + 1];
+    private Type type;
     /**
      * Number of consecutive steps that we wanted to move and were ready, but couldn't.
      */
@@ -31,16 +35,9 @@ public strictfp class Politician extends Unit {
      * Target assigned by spawn EC. If {@code null}, there is not explicit target.
      */
     private MapLocation target = null;
-    /**
-     * Since the sensor radius is greater than the action radius, we can see Muckrakers before we can kill them in
-     * {@code tryEmpower()}. Therefore, we keep track of the closest one as a secondary target. Set to {@code null} at
-     * the start of every step.
-     */
-    private RobotInfo targetMuckraker;
 
     public Politician(final RobotController rc) throws GameActionException {
         super(rc);
-        type = spawnMessage == LOST_SPAWN ? Type.OFFENSIVE : Type.fromFlag(spawnMessage);
     }
 
     public Politician(final Slanderer slanderer) throws GameActionException {
@@ -50,104 +47,135 @@ public strictfp class Politician extends Unit {
                 ? Type.OFFENSIVE : Type.DEFENSIVE;
     }
 
+    @Override
+    void init() throws GameActionException {
+        super.init();
+        // the spawn flag is only read in init(), so the instruction of the spawn is not known in the constructor
+        if (type == null)
+            type = (spawnMessage & F_M_ACTION) == F_V_EC_SPAWN_POLITICIAN ? Type.fromFlag(spawnMessage) : Type.OFFENSIVE;
+    }
+
     private boolean isStuck() {
         return failedMoves >= 3;
     }
 
-    private void scanUnits() throws GameActionException {
-        Arrays.fill(maxEnemyConviction, 0);
-        Arrays.fill(unitCount, 0);
-        targetMuckraker = null;
-
-        // we assume it takes 10 turns to reach slanderer
-        final int effectiveConviction = (int) (rc.getEmpowerFactor(rc.getTeam(), 10) * (rc.getConviction() - 10));
-
-        for (final RobotInfo r : rc.senseNearbyRobots()) {
-            final int distance = rc.getLocation().distanceSquaredTo(r.location);
-            if (distance <= POLITICIAN.actionRadiusSquared)
-                unitCount[distance]++;
+    /**
+     * Adopts the spawn of a friendly EC or of a friend that is offering one.
+     */
+    @LoopBound(LoopBound.ROBOTS)
+    private void adoptSpawn() throws GameActionException {
+        final SensorSnapshot sensor = this.sensor;
+        final Team ally = rc.getTeam();
+        for (int i = 0; i < sensor.size && spawnLocation == null; i++) {
+            final RobotInfo r = sensor.robots[i];
+            if (r.team != ally)
+                continue;
+
+            if (r.type == ENLIGHTENMENT_CENTER) {
+                // .. and come across a friendly EC, adopt it
+                setSpawn(r.location, r.ID);
+                continue;
+            }
 
-            if (r.team == rc.getTeam()) {
-                if (spawnLocation == null) {
-                    // if we don't have a spawn ..
+            final int message = getFlagDecoded(r.ID);
+            final int action = message & F_M_ACTION;
 
-                    if (r.type == ENLIGHTENMENT_CENTER) {
-                        // .. and come across a friendly EC, adopt it
-                        setSpawn(r.location, r.ID);
-                        continue;
-                    }
+            if (action == F_V_COMMUNICATE_SPAWN && spawnMessage == LOST_SPAWN) {
+                // .. and come across a friend that is offering one, adopt it
+                setSpawn(null, message & F_M_ID);
+            }
+        }
+    }
 
-                    final int message = getFlagDecoded(r.ID);
-                    final int action = message & F_M_ACTION;
+    /**
+     * Since the sensor radius is greater than the action radius, we can see Muckrakers before we can kill them in
+     * {@code tryEmpower()}. Therefore, the closest one that we can kill is a secondary target. Returns null if there is
+     * none.
+     */
+    @LoopBound(LoopBound.ROBOTS)
+    private RobotInfo findTargetMuckraker() {
+        final SensorSnapshot sensor = this.sensor;
+        if (sensor.count(ENEMY_MUCKRAKER) == 0)
+            return null;
 
-                    if (action == F_V_COMMUNICATE_SPAWN && spawnMessage == LOST_SPAWN) {
-                        // .. and come across a friend that is offering one, adopt it
-                        setSpawn(null, message & F_M_ID);
-                    }
-                }
-            } else if (r.team == rc.getTeam().opponent()) {
-                if (distance <= POLITICIAN.actionRadiusSquared) {
-                    // enemy politicians only need to be neutralized, which means <=10 conviction
-                    maxEnemyConviction[distance] =
-                            Math.max(r.conviction - (r.type == POLITICIAN ? 10 : 0), maxEnemyConviction[distance]);
-                }
+        // we assume it takes 10 turns to reach slanderer
+        final int effectiveConviction = (int) (rc.getEmpowerFactor(rc.getTeam(), 10) * (rc.getConviction() - 10));
 
-                // we require having 2x as much conviction, as a buffer (other units could be next to it, for example)
-                if (r.type == MUCKRAKER && r.conviction * 2 < effectiveConviction &&
-                        (targetMuckraker == null || isCloser(r.location, targetMuckraker.location))) {
-                    targetMuckraker = r;
-                }
+        RobotInfo targetMuckraker = null;
+        int targetMuckrakerDistance = Integer.MAX_VALUE;
+        final int[] byKind = sensor.byKind();
+        final int[] kindStarts = sensor.kindStarts();
+        for (int j = kindStarts[ENEMY_MUCKRAKER], end = kindStarts[ENEMY_MUCKRAKER + 1]; j < end; j++) {
+            final int i = byKind[j];
+            final RobotInfo r = sensor.robots[i];
+            // we require having 2x as much conviction, as a buffer (other units could be next to it, for example)
+            if (r.conviction * 2 < effectiveConviction && sensor.distances[i] < targetMuckrakerDistance) {
+                targetMuckraker = r;
+                targetMuckrakerDistance = sensor.distances[i];
             }
         }
+        return targetMuckraker;
     }
 
     /**
-     * If stuck or defensive or offensive & within range of target, determine an effective range to empower on (i.e. not
-     * wasteful and enemy units in it will be affected) and, if found, empower!
+     * If stuck or defensive or offensive & within range of target, determine the radius with the most valuable outcome
+     * (i.e. not wasteful and enemy units in it will be converted) and, if found, empower!
      */
     private boolean tryEmpower() throws GameActionException {
-        if (type == Type.DEFENSIVE || isStuck() || (target != null &&
-                rc.getLocation().isWithinDistanceSquared(target, POLITICIAN.actionRadiusSquared))) {
-            final int effectiveConviction = (int) (rc.getEmpowerFactor(rc.getTeam(), 0) * (rc.getConviction() - 10));
-            for (int r = 1; r <= POLITICIAN.actionRadiusSquared; r++) {
-                // ugly, but it works
-                if (target != null && type == Type.OFFENSIVE && r < 5 &&
-                        rc.getLocation().isWithinDistanceSquared(target, r)) {
-                    rc.empower(r);
-                    return true;
-                }
+        if (type != Type.DEFENSIVE && !isStuck() && (target == null ||
+                !rc.getLocation().isWithinDistanceSquared(target, POLITICIAN.actionRadiusSquared)))
+            return false;
+
+        // ugly, but it works: offensive politicians empower on their target with the smallest radius < 5 that reaches it
+        int targetRadius = Integer.MAX_VALUE;
+        if (target != null && type == Type.OFFENSIVE) {
+            final int targetDistance = rc.getLocation().distanceSquaredTo(target);
+            if (targetDistance < 5)
+                targetRadius = Math.max(targetDistance, 1);
+        }
 
-                final int requiredConviction = maxEnemyConviction[r] * unitCount[r];
-                if (requiredConviction == 0) continue;
-                if (requiredConviction > effectiveConviction) break;
-                if (requiredConviction * 5 < effectiveConviction)
-                    continue; // not worth it
+        // fast path: if no enemy or neutral EC is in reach, only the target can make empowering worth it
+        final SensorSnapshot sensor = this.sensor;
+        if (sensor.nearestDistances[SensorSnapshot.ENEMY] > POLITICIAN.actionRadiusSquared &&
+                sensor.nearestDistances[SensorSnapshot.NEUTRAL] > POLITICIAN.actionRadiusSquared) {
+            if (targetRadius == Integer.MAX_VALUE)
+                return false;
+            rc.empower(targetRadius);
+            return true;
+        }
 
-                rc.empower(r);
-                return true;
-            }
+        final int radius = empowerSimulator.bestRadius(sensor, rc.getTeam(), rc.getConviction(),
+                rc.getEmpowerFactor(rc.getTeam(), 0), POLITICIAN.actionRadiusSquared);
+        if (radius != EmpowerSimulator.NONE && radius < targetRadius) {
+            rc.empower(radius);
+            return true;
         }
-        return false;
+        if (targetRadius == Integer.MAX_VALUE)
+            return false;
+        rc.empower(targetRadius);
+        return true;
     }
 
     /**
-     * Move towards target if one is specified, or else randomly.
+     * Move towards target if one is specified, or else randomly. Muckrakers move every turn, so they are chased
+     * directly instead of along a planned path.
      */
     private void moveToTarget() throws GameActionException {
         boolean success;
 
         if (target == null) {
-            if (targetMuckraker == null || type == Type.OFFENSIVE) {
+            final RobotInfo targetMuckraker = type == Type.OFFENSIVE ? null : findTargetMuckraker();
+            if (targetMuckraker == null) {
                 if (spawnLocation == null || rc.getLocation().isWithinDistanceSquared(spawnLocation, 48)) {
                     success = randomMove();
                 } else {
-                    success = tryMovePreferred(spawnLocation);
+                    success = navigator.move(spawnLocation);
                 }
             } else {
                 success = tryMovePreferred(targetMuckraker.location);
             }
         } else {
-            success = tryMovePreferred(target);
+            success = navigator.move(target);
         }
 
         failedMoves = success ? 0 : failedMoves + 1;
@@ -158,8 +186,6 @@ public strictfp class Politician extends Unit {
         // green if defensive, red if offensive
         rc.setIndicatorDot(rc.getLocation(), type == Type.OFFENSIVE ? 255 : 0, type == Type.DEFENSIVE ? 255 : 0, 0);
 
-        scanUnits();
-
         // is EC giving new orders?
         if (spawnMessage != LOST_SPAWN && (spawnMessage & F_M_ACTION) == F_V_EC_ATTACK && Type.fromFlag(spawnMessage) == type) {
             // orders to defend/attack spawn are ignored, since this is default behavior
@@ -167,14 +193,12 @@ public strictfp class Politician extends Unit {
             target = location.equals(spawnLocation) ? null : location;
         }
 
-        // if we cannot move/empower there is not point in continuing
+        // if we cannot move/empower there is not point in continuing, the orders above are only shown for a round
         if (!rc.isReady()) return;
 
-        // calculate 'cumulative sums'
-        for (int r = 2; r < maxEnemyConviction.length; r++) {
-            maxEnemyConviction[r] = Math.max(maxEnemyConviction[r - 1], maxEnemyConviction[r]);
-            unitCount[r] += unitCount[r - 1];
-        }
+        // if we don't have a spawn ..
+        if (spawnLocation == null)
+            adoptSpawn();
 
         if (tryEmpower()) return;
         moveToTarget();
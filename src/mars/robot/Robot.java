@@ -1,13 +1,22 @@
 package mars.robot;
 
 import battlecode.common.*;
+import mars.util.Profiler;
+import mars.util.Scheduler;
+import mars.util.SensorSnapshot;
 
 import java.util.Random;
 
 import static mars.Constants.FLAG_MASK;
+import static mars.Constants.PROFILE;
 
 public abstract strictfp class Robot {
 
+    /**
+     * Result of probeEdge() if the map does not end within sensor range.
+     */
+    protected static final int NO_EDGE = -1;
+
     /**
      * All directions except CENTER.
      */
@@ -29,11 +38,41 @@ public abstract strictfp class Robot {
             Direction.SOUTH, Direction.SOUTHWEST, Direction.WEST, Direction.NORTHWEST,
             Direction.CENTER
     };
+
+    /**
+     * Profiler phases that are shared by all robots. Subclasses can append their own phases in profilerPhases().
+     */
+    protected static final int
+            PHASE_STEP = 0,
+            PHASE_TASKS = 1,
+            PHASE_FLAG = 2;
+
     public final RobotController rc;
+    /**
+     * Robots in sensor range, sensed at the start of every turn.
+     */
+    public final SensorSnapshot sensor;
     protected final Random random = new Random();
+    /**
+     * Multi-turn computations that are run with the bytecodes left after step().
+     */
+    protected final Scheduler scheduler = new Scheduler();
+    /**
+     * Bytecode profiler of this robot, only present if PROFILE is enabled.
+     */
+    protected final Profiler profiler;
 
     protected Robot(final RobotController rc) {
         this.rc = rc;
+        sensor = new SensorSnapshot(rc);
+        profiler = PROFILE ? new Profiler(rc, profilerPhases()) : null;
+    }
+
+    /**
+     * Returns the names of the profiler phases of this robot, indexed by the PHASE_ constants.
+     */
+    protected String[] profilerPhases() {
+        return new String[]{"step", "tasks", "updateFlag"};
     }
 
     /**
@@ -50,6 +89,13 @@ public abstract strictfp class Robot {
         return 128 * (location.x % 128) + (location.y % 128);
     }
 
+    /**
+     * Encodes the location (x, y) like encodeLocation(MapLocation), without creating it.
+     */
+    public static int encodeLocation(int x, int y) {
+        return 128 * (x % 128) + (y % 128);
+    }
+
     /**
      * Decodes the rightmost 7 bits of [flag] to a coordinate, given a comparison coordinate value of this robot.
      */
@@ -69,24 +115,42 @@ public abstract strictfp class Robot {
     }
 
     public final void loop() throws GameActionException {
-        if (this instanceof Unit)
+        if (this instanceof Unit) {
+            sensor.update(rc.getRoundNum());
             ((Unit) this).init();
+        }
         while (true) {
+            final int round = rc.getRoundNum();
             try {
                 // check for conversions
                 if (this instanceof Slanderer && rc.getType() == RobotType.POLITICIAN) {
                     new Politician((Slanderer) this).loop();
                     return;
                 }
-                // read off the flag of our EC
-                if (this instanceof Unit)
+                sensor.update(round);
+
+                // remember newly visible terrain and read off the flag of our EC
+                if (this instanceof Unit) {
+                    ((Unit) this).terrain.update();
                     ((Unit) this).readSpawnFlag();
+                }
 
+                if (PROFILE) profiler.begin(PHASE_STEP);
                 step();
+                if (PROFILE) profiler.end(PHASE_STEP);
+
+                // the tasks run before updateFlag(), so that the flag reflects what they computed this turn
+                if (PROFILE) profiler.begin(PHASE_TASKS);
+                scheduler.run(round);
+                if (PROFILE) profiler.end(PHASE_TASKS);
+
+                if (PROFILE) profiler.begin(PHASE_FLAG);
                 updateFlag();
+                if (PROFILE) profiler.end(PHASE_FLAG);
             } catch (GameActionException e) {
                 System.out.println("Exception from " + rc.getType() + ": " + e.getLocalizedMessage());
             }
+            if (PROFILE) profiler.endTurn(round);
             Clock.yield();
         }
     }
@@ -102,6 +166,50 @@ public abstract strictfp class Robot {
         return null;
     }
 
+    /**
+     * Returns the largest offset along an axis that is within the sensor range of [type], the floor of the square root
+     * of its sensor radius squared.
+     */
+    protected static int sensorRange(RobotType type) {
+        switch (type) {
+            case ENLIGHTENMENT_CENTER:
+                return 6;
+            case SLANDERER:
+                return 4;
+            default:
+                // politicians and muckrakers
+                return 5;
+        }
+    }
+
+    /**
+     * Returns the offset of the last tile on the map from ([x], [y]) in the axis direction ([dx], [dy]), or NO_EDGE if
+     * the map does not end within sensor range in that direction. The transition is found by a binary search, so it
+     * takes at most 4 probes of onTheMap(int, int).
+     */
+    protected final int probeEdge(int x, int y, int dx, int dy) throws GameActionException {
+        int hi = sensorRange(rc.getType());
+        if (onTheMap(x + hi * dx, y + hi * dy))
+            return NO_EDGE;
+        // the tile at lo is on the map and the tile at hi is not, unrolled since ranges are at most 6
+        int lo = 0, mid;
+        if (hi - lo > 1) {
+            mid = (lo + hi) >>> 1;
+            if (onTheMap(x + mid * dx, y + mid * dy)) lo = mid;
+            else hi = mid;
+        }
+        if (hi - lo > 1) {
+            mid = (lo + hi) >>> 1;
+            if (onTheMap(x + mid * dx, y + mid * dy)) lo = mid;
+            else hi = mid;
+        }
+        if (hi - lo > 1) {
+            mid = (lo + hi) >>> 1;
+            if (onTheMap(x + mid * dx, y + mid * dy)) lo = mid;
+        }
+        return lo;
+    }
+
     /**
      * Checks if there is a out of map square which this robot can sense.
      *
@@ -111,55 +219,43 @@ public abstract strictfp class Robot {
      */
     protected MapLocation senseBorder() throws GameActionException {
         MapLocation ownLocation = rc.getLocation();
-        int maxRadius = (int) Math.sqrt(rc.getType().sensorRadiusSquared);
+        final int x = ownLocation.x, y = ownLocation.y;
 
-        MapLocation borderXpos = ownLocation.translate(maxRadius, 0);
-        MapLocation borderXneg = ownLocation.translate(-maxRadius, 0);
-
-        // Check for a border above and below
-        int xPos = ownLocation.x;
-        if (!rc.onTheMap(borderXpos)) {
-            for (int radius = maxRadius - 1; radius > 0; radius--) {
-                if (rc.onTheMap(ownLocation.translate(radius, 0))) {
-                    xPos = ownLocation.x + radius;
-                    break;
-                }
-            }
-        } else if (!rc.onTheMap(borderXneg)) {
-            for (int radius = maxRadius - 1; radius > 0; radius--) {
-                if (rc.onTheMap(ownLocation.translate(-radius, 0))) {
-                    xPos = ownLocation.x - radius;
-                    break;
-                }
-            }
+        // Check for a border right and left
+        int xPos = x;
+        int offset = probeEdge(x, y, 1, 0);
+        if (offset != NO_EDGE) {
+            xPos = x + offset;
+        } else if ((offset = probeEdge(x, y, -1, 0)) != NO_EDGE) {
+            xPos = x - offset;
         }
 
-        MapLocation borderYpos = ownLocation.translate(0, maxRadius);
-        MapLocation borderYneg = ownLocation.translate(0, -maxRadius);
-
-        int yPos = ownLocation.y;
-        if (!rc.onTheMap(borderYpos)) {
-            for (int radius = maxRadius - 1; radius > 0; radius--) {
-                if (rc.onTheMap(ownLocation.translate(0, radius))) {
-                    yPos = ownLocation.y + radius;
-                    break;
-                }
-            }
-        } else if (!rc.onTheMap(borderYneg)) {
-            for (int radius = maxRadius - 1; radius > 0; radius--) {
-                if (rc.onTheMap(ownLocation.translate(0, -radius))) {
-                    yPos = ownLocation.y - radius;
-                    break;
-                }
-            }
+        // Check for a border above and below
+        int yPos = y;
+        offset = probeEdge(x, y, 0, 1);
+        if (offset != NO_EDGE) {
+            yPos = y + offset;
+        } else if ((offset = probeEdge(x, y, 0, -1)) != NO_EDGE) {
+            yPos = y - offset;
         }
 
-        if (xPos != ownLocation.x || yPos != ownLocation.y) {
+        if (xPos != x || yPos != y) {
             return new MapLocation(xPos, yPos);
         }
         return null;
     }
 
+    /**
+     * Returns whether the tile at (x, y) is on the map. The tile must be within sensor range.
+     * <p>
+     * This allocates a MapLocation for every call, since the engine only takes those. Units override it to answer from
+     * their terrain cache, so only the EC, which senses its borders once in its constructor, and the tiles that a unit
+     * has not cached yet pay for the allocation.
+     */
+    protected boolean onTheMap(int x, int y) throws GameActionException {
+        return rc.onTheMap(new MapLocation(x, y));
+    }
+
     protected abstract void updateFlag() throws GameActionException;
 
     /**
@@ -1,11 +1,16 @@
 package mars.robot;
 
 import battlecode.common.*;
+import mars.util.BorderKnowledge;
+import mars.util.LoopBound;
+import mars.util.SensorSnapshot;
 
 import static mars.Constants.F_V_SLANDERER_PANIC;
 
 public strictfp class Slanderer extends Unit {
 
+    private static final int ENEMY_MUCKRAKER = SensorSnapshot.kind(SensorSnapshot.ENEMY, RobotType.MUCKRAKER);
+
     private MapLocation closestBorder;
     private boolean panic;
 
@@ -29,26 +34,27 @@ public strictfp class Slanderer extends Unit {
         return panic ? F_V_SLANDERER_PANIC | encodeLocation(rc.getLocation()) : 0;
     }
 
+    @LoopBound(LoopBound.ROBOTS)
     private boolean fleeMuckrakers(MapLocation ownLocation) throws GameActionException {
-        RobotInfo[] enemies = this.scanEnemy();
-        if (enemies.length > 0) {
+        final SensorSnapshot sensor = this.sensor;
+        if (sensor.teamCount(SensorSnapshot.ENEMY) > 0) {
             int dangerX = 0;
             int dangerY = 0;
-            for (RobotInfo enemy : enemies) {
-                if (enemy.getType() == RobotType.MUCKRAKER) {
-                    panic = true;
-                    MapLocation enemyLoc = enemy.getLocation();
-                    if (enemyLoc.x > ownLocation.x) {
-                        dangerX--;
-                    } else {
-                        dangerX++;
-                    }
-
-                    if (enemyLoc.y > ownLocation.y) {
-                        dangerY--;
-                    } else {
-                        dangerY++;
-                    }
+            final int[] byKind = sensor.byKind();
+            final int[] kindStarts = sensor.kindStarts();
+            for (int j = kindStarts[ENEMY_MUCKRAKER]; j < kindStarts[ENEMY_MUCKRAKER + 1]; j++) {
+                panic = true;
+                MapLocation enemyLoc = sensor.robots[byKind[j]].location;
+                if (enemyLoc.x > ownLocation.x) {
+                    dangerX--;
+                } else {
+                    dangerX++;
+                }
+
+                if (enemyLoc.y > ownLocation.y) {
+                    dangerY--;
+                } else {
+                    dangerY++;
                 }
             }
 
@@ -62,7 +68,9 @@ public strictfp class Slanderer extends Unit {
     private boolean moveToSide() throws GameActionException {
         rc.setIndicatorDot(rc.getLocation(), 0, 0, 0);
         if (this.closestBorder == null) {
-            this.closestBorder = this.senseBorder();
+            // only the borders that neither this unit nor its spawn knows are sensed
+            probeBorders();
+            this.closestBorder = borders.nearest(rc.getLocation());
         }
 
         RobotInfo botOnBorder = senseLoc(this.closestBorder);
@@ -90,17 +98,11 @@ public strictfp class Slanderer extends Unit {
         }
     }
 
-    private Direction borderDirection() throws GameActionException {
+    private Direction borderDirection() {
         MapLocation ownLocation = rc.getLocation();
-        if (!rc.onTheMap(ownLocation.add(Direction.EAST))) {
-            return Direction.EAST;
-        } else if (!rc.onTheMap(ownLocation.add(Direction.WEST))) {
-            return Direction.WEST;
-        } else if (!rc.onTheMap(ownLocation.add(Direction.NORTH))) {
-            return Direction.NORTH;
-        } else if (!rc.onTheMap(ownLocation.add(Direction.SOUTH))) {
-            return Direction.SOUTH;
-        }
+        final int side = borders.nearestSide(ownLocation.x, ownLocation.y);
+        if (side >= 0 && borders.distance(side, ownLocation.x, ownLocation.y) == 0)
+            return BorderKnowledge.direction(side);
         return null;
     }
 
@@ -1,24 +1,47 @@
 package mars.robot;
 
 import battlecode.common.*;
+import mars.util.BorderKnowledge;
+import mars.util.LoopBound;
+import mars.util.MessageQueue;
+import mars.util.Navigator;
 import mars.util.RandomIntSet8;
+import mars.util.SensorSnapshot;
+import mars.util.TerrainCache;
 
-import java.util.ArrayDeque;
-import java.util.Arrays;
-import java.util.Deque;
-
-import static mars.Constants.F_B_EC_SCAN;
-import static mars.Constants.LOST_SPAWN;
+import static mars.Constants.*;
 
 public abstract strictfp class Unit extends Robot {
 
+    private static final int ALLY_EC = SensorSnapshot.kind(SensorSnapshot.ALLY, RobotType.ENLIGHTENMENT_CENTER);
+    /**
+     * Path planning stops when fewer bytecodes are left, so that the flag can still be set.
+     */
+    private static final int NAVIGATION_BYTECODE_CAP = 2000;
+
     private final RandomIntSet8 randomSet = new RandomIntSet8();
     /**
-     * Collection of flags added by queueSpawnMessage(). Should have a structure of
-     * [-1, -1, m1, m2, ..., m3, -1] where the first two -1-s are optional. The null values are used
-     * for initial synchronization with the spawn scan cycle.
+     * Flags added by queueSpawnMessage(). The queue advances every time the spawn completes a scan cycle, so every
+     * message is shown for at least one full cycle. After a new spawn is set, the queue requires a handshake of one
+     * extra cycle, since the first cycle that is observed may already be in progress.
+     * <p>
+     * When the spawn grants a stream to this unit, it has read the current message and reads the flag of this unit in
+     * each of the next STREAM_ROUNDS rounds, so the queue advances every round until the stream ends.
+     */
+    private final MessageQueue spawnMessages = new MessageQueue();
+    /**
+     * Borders and passability of the tiles that this unit has seen, updated at the start of every turn.
+     */
+    protected final TerrainCache terrain = new TerrainCache(rc);
+    /**
+     * Moves along the cheapest known path to a target. Plans for the last target are made while the unit waits for
+     * its cooldown.
+     */
+    protected final Navigator navigator = new Navigator(rc, terrain, sensor, NAVIGATION_BYTECODE_CAP);
+    /**
+     * Borders that this unit has sensed or that its spawn has broadcast.
      */
-    private final Deque<Integer> spawnMessages = new ArrayDeque<>(Arrays.asList(-1, -1));
+    protected final BorderKnowledge borders = new BorderKnowledge();
     protected MapLocation spawnLocation;
     protected int spawnId = LOST_SPAWN;
     /**
@@ -30,19 +53,40 @@ public abstract strictfp class Unit extends Robot {
      * Last seen scan flag bit of the spawn EC
      */
     protected int spawnScanFlagBit;
+    /**
+     * Last round of the current stream, in which the queue advances every round.
+     */
+    private int streamEnd;
+    /**
+     * Number of scan cycles of the spawn that have to complete before the queue advances.
+     */
+    private int spawnCyclesLeft;
 
     protected Unit(RobotController rc) {
         super(rc);
+        spawnMessages.reset(1);
+        scheduler.register(navigator::precompute, 1, NAVIGATION_BYTECODE_CAP);
+    }
+
+    @Override
+    protected boolean onTheMap(int x, int y) throws GameActionException {
+        final byte tile = terrain.get(x, y);
+        return tile == TerrainCache.UNKNOWN ? super.onTheMap(x, y) : tile != TerrainCache.OFF_MAP;
     }
 
     /**
      * Looks for spawn adjacent to robot
      */
+    @LoopBound(LoopBound.ROBOTS)
     void init() throws GameActionException {
         // try to find an EC that spawned this unit
-        for (RobotInfo robot : rc.senseNearbyRobots(2, rc.getTeam())) {
-            if (robot.type == RobotType.ENLIGHTENMENT_CENTER) {
-                setSpawn(robot.location, robot.ID);
+        final SensorSnapshot sensor = this.sensor;
+        final int[] byKind = sensor.byKind();
+        final int[] kindStarts = sensor.kindStarts();
+        for (int j = kindStarts[ALLY_EC]; j < kindStarts[ALLY_EC + 1]; j++) {
+            final int i = byKind[j];
+            if (sensor.distances[i] <= 2) {
+                setSpawn(sensor.robots[i].location, sensor.robots[i].ID);
                 readSpawnFlag();
                 break;
             }
@@ -57,12 +101,63 @@ public abstract strictfp class Unit extends Robot {
             return;
         if (rc.canGetFlag(spawnId)) {
             spawnMessage = getFlagDecoded(spawnId);
+            final int action = spawnMessage & F_M_ACTION;
+            if (action == F_V_EC_1_BORDER) {
+                learnBorder(spawnMessage & F_M_BORDER);
+            } else if (action == F_V_EC_2_BORDER) {
+                learnBorder(spawnMessage >>> 9 & F_M_BORDER);
+                learnBorder(spawnMessage & F_M_BORDER);
+            }
         } else {
             spawnLocation = null;
             spawnId = spawnMessage = LOST_SPAWN;
         }
     }
 
+    /**
+     * Stores the border of [code], which is one of F_V_BORDER_L, R, B or T with an encoded coordinate.
+     */
+    private void learnBorder(int code) {
+        // the types of the codes are the sides of BorderKnowledge
+        final int side = code >>> 7;
+        final MapLocation location = rc.getLocation();
+        borders.set(side, decodeCoordinate(code, BorderKnowledge.isVertical(side) ? location.x : location.y));
+    }
+
+    /**
+     * Returns the code of the border on [side], of the form F_V_BORDER_* | coordinate, which must be known.
+     */
+    protected final int borderCode(int side) {
+        return side << 7 | encodeCoordinate(borders.get(side));
+    }
+
+    /**
+     * Senses the border on [side] if it is not known yet and within sensor range. Returns true if it was found.
+     */
+    protected final boolean probeBorder(int side) throws GameActionException {
+        if (borders.isKnown(side))
+            return false;
+        final MapLocation location = rc.getLocation();
+        final int x = location.x, y = location.y;
+        final int dx = BorderKnowledge.dx(side), dy = BorderKnowledge.dy(side);
+        final int k = probeEdge(x, y, dx, dy);
+        if (k == NO_EDGE)
+            return false;
+        borders.set(side, BorderKnowledge.isVertical(side) ? x + k * dx : y + k * dy);
+        return true;
+    }
+
+    /**
+     * Senses the borders within sensor range that are not known yet.
+     */
+    protected final void probeBorders() throws GameActionException {
+        // a border that is found rules out the opposite one
+        if (!probeBorder(BorderKnowledge.LEFT))
+            probeBorder(BorderKnowledge.RIGHT);
+        if (!probeBorder(BorderKnowledge.BOTTOM))
+            probeBorder(BorderKnowledge.TOP);
+    }
+
     /**
      * Listener for when the spawn EC of this unit is either:
      * Reconverted to our team after being converted to the enemy team,
@@ -91,30 +186,36 @@ public abstract strictfp class Unit extends Robot {
         spawnLocation = location;
         spawnId = id;
         spawnScanFlagBit = -1;
-        spawnMessages.clear();
-        spawnMessages.add(-1);
-        spawnMessages.add(-1);
+        streamEnd = 0;
+        spawnCyclesLeft = 1;
+        spawnMessages.reset(1);
         if (id != LOST_SPAWN)
             onNewSpawn();
     }
 
     /**
      * Adds a message to the queue of messages that are to be send to our spawn. Does not do anything when we do not know spawn.
+     * Messages that are identical to a pending message are coalesced with it.
+     *
+     * @return false if the message was dropped because the queue is full.
      */
-    protected final void queueSpawnMessage(int message) {
-        if (spawnMessage != LOST_SPAWN) {
-            // if queue is longer than [null], the last element of the queue is a removable null
+    protected final boolean queueSpawnMessage(int message) {
+        return spawnMessage == LOST_SPAWN || spawnMessages.offer(message);
+    }
 
-            // [-1, (-1), m1, m2, ..., -1] -> [-1, (-1), m1, m2, ..., message, -1]
-            // [m1, m2, ..., -1] -> [m1, m2, ..., message, -1]
-            // [-1, (-1)] -> [-1, (-1), message, -1]
+    /**
+     * Removes the pending spawn messages that match [message] on [mask], together with a directly following message
+     * that matches [follower] on [followerMask].
+     */
+    protected final void supersedeSpawnMessages(int message, int mask, int follower, int followerMask) {
+        spawnMessages.supersede(message, mask, follower, followerMask);
+    }
 
-            // remove a -1 except if queue is [-1] or [-1, -1]
-            if (spawnMessages.size() != 1 && !(spawnMessages.size() == 2 && spawnMessages.getFirst() == -1))
-                spawnMessages.removeLast();
-            spawnMessages.addLast(message);
-            spawnMessages.addLast(-1);
-        }
+    /**
+     * Returns the number of spawn messages that can be queued before messages are dropped.
+     */
+    protected final int spawnMessageSpace() {
+        return spawnMessages.space();
     }
 
     /**
@@ -125,9 +226,7 @@ public abstract strictfp class Unit extends Robot {
      */
     private boolean setFlagForSpawnCommunication() throws GameActionException {
         if (spawnMessage == LOST_SPAWN) {
-            spawnMessages.clear();
-            spawnMessages.add(-1);
-            spawnMessages.add(-1);
+            spawnMessages.reset(1);
             return false;
         }
 
@@ -138,23 +237,40 @@ public abstract strictfp class Unit extends Robot {
             spawnScanFlagBit = newSpawnScanFlagBit;
             return false;
         }
+        final boolean cycleCompleted = newSpawnScanFlagBit != spawnScanFlagBit;
+        spawnScanFlagBit = newSpawnScanFlagBit;
 
-        // if scan cycle bit has changed, move to next item in the queue
-        if (newSpawnScanFlagBit != spawnScanFlagBit) {
-            spawnScanFlagBit = newSpawnScanFlagBit;
-            // if queue is [-1], do not remove this element
-            if (spawnMessages.size() > 1)
-                spawnMessages.removeFirst();
+        // a grant can extend a stream that ends in this round, but a grant from an earlier round is ignored
+        final int round = rc.getRoundNum();
+        if ((spawnMessage & F_M_ACTION) == F_V_EC_STREAM && (spawnMessage & F_M_EC_STREAM_ID) == rc.getID()
+                && round >= streamEnd && spawnMessages.current() != MessageQueue.NONE)
+            streamEnd = round + STREAM_ROUNDS;
+
+        if (round <= streamEnd) {
+            // the spawn has read the message of the previous round
+            spawnMessages.advance();
+            // the spawn ends the stream when it reads no message, and a message after the stream has to wait for a
+            // cycle that starts after it is shown
+            if (spawnMessages.current() == MessageQueue.NONE) {
+                streamEnd = 0;
+                spawnCyclesLeft = 1;
+            } else {
+                spawnCyclesLeft = 2;
+            }
+        } else if (cycleCompleted && --spawnCyclesLeft == 0) {
+            // if scan cycle bit has changed, move to next item in the queue
+            spawnMessages.advance();
+            spawnCyclesLeft = 1;
         }
 
-        // send message if not -1
-        int message = spawnMessages.getFirst();
-        if (message == -1)
+        int message = spawnMessages.current();
+        if (message == MessageQueue.NONE)
             return false;
         setFlagEncoded(message);
         return true;
     }
 
+    @LoopBound(8)
     protected boolean randomMove() throws GameActionException {
         randomSet.reset();
         while (!randomSet.isEmpty())
@@ -176,6 +292,7 @@ public abstract strictfp class Unit extends Robot {
         return tryMove(rc.getLocation().directionTo(location));
     }
 
+    @LoopBound(3)
     protected boolean tryMovePreferred(final Direction direction) throws GameActionException {
         if (direction == Direction.CENTER) return true;
         final int i = direction.ordinal();
@@ -193,13 +310,4 @@ public abstract strictfp class Unit extends Robot {
         return tryMovePreferred(rc.getLocation().directionTo(location));
     }
 
-    /**
-     * Senses all enemy robots in range.
-     *
-     * @return An array of enemies.
-     */
-    protected RobotInfo[] scanEnemy() {
-        return this.rc.senseNearbyRobots(-1, rc.getTeam().opponent());
-    }
-
 }
@@ -5,85 +5,94 @@ import battlecode.common.RobotController;
 
 import static mars.Constants.MINIMAL_BID;
 
+/**
+ * Bids for votes with the lowest amount that is expected to win, in constant memory.
+ * <p>
+ * The winning bid of the opponent is bracketed by the highest bid that lost and the lowest bid that won, where a bid
+ * won if the votes of the team went up in the next round. The bid is the middle of the bracket, or double the lower end
+ * while no winning bid is known. Since the opponent changes its bids, the lower end decays after a streak of wins to
+ * probe for a cheaper vote, and the upper end is dropped when a bid at or above it loses. Only one EC of the team bids
+ * per round, since the highest bid of a team is the one that counts. If the bid of the bracket costs more than half of
+ * the influence, MINIMAL_BID is bid instead, which does not change the bracket, and the EC is poor until it can afford
+ * the bid again. The other ECs skip a poor EC when they choose the one that bids, so a richer EC takes over, starting
+ * from its own bracket.
+ */
 public strictfp class Bidder {
 
+    /**
+     * Number of votes that wins the game.
+     */
+    private static final int MAJORITY = 751;
+
+    // first round in which to bid
+    private static final int START_ROUND = 100;
+
+    // upper end of the bracket if no winning bid is known
+    static final int UNKNOWN = 0;
+
+    // number of wins in a row after which a cheaper bid is tried
+    static final int PROBE_STREAK = 8;
+
     private final RobotController rc;
 
-    private final int[] voteCount = new int[3001];
-    private final int[] amountVoted = new int[3001];
-    private int wonEnemy = 0;
-    private int wonMars = 0;
+    // highest bid that is expected to lose and lowest bid that is expected to win or UNKNOWN
+    int low, high = UNKNOWN;
+    // bid of the last round in which this EC bid, and the votes before it was decided
+    private int lastBid, lastBidRound = -1, lastVotes;
+    private int streak;
+    // whether the bid of the bracket costs more than half of the influence in this round
+    boolean poor;
 
-    Bidder(EnlightenmentCenter ec) {
-        rc = ec.rc;
-        amountVoted[0] = 2;
+    Bidder(RobotController rc) {
+        this.rc = rc;
     }
 
-    public void bid() throws GameActionException {
-        //gets status information
-        final int currentVotes = rc.getTeamVotes();
-        final int currentInfluence = rc.getInfluence();
-        voteCount[rc.getRoundNum()] = currentVotes;
+    /**
+     * Bids if [leader] is true, which should hold for a single EC of the team.
+     */
+    public void bid(boolean leader) throws GameActionException {
+        final int round = rc.getRoundNum();
+        final int votes = rc.getTeamVotes();
+        if (lastBidRound == round - 1)
+            update(votes > lastVotes);
+        poor = false;
+        if (!leader || votes >= MAJORITY || round <= START_ROUND)
+            return;
 
-        //Make a counter for how much our team lost vs enemy team
-        if (currentVotes == voteCount[rc.getRoundNum() - 1]) {
-            wonEnemy += 1;
-        } else {
-            wonMars += 1;
+        int bid = high == UNKNOWN ? 2 * low + MINIMAL_BID : (low + high + 1) / 2;
+        bid = Math.max(bid, MINIMAL_BID);
+        // never bid more than half of the influence, a bid that loses still costs half of it
+        if (bid > rc.getInfluence() / 2) {
+            poor = true;
+            if (rc.canBid(MINIMAL_BID))
+                rc.bid(MINIMAL_BID);
+            return;
+        }
+        if (rc.canBid(bid)) {
+            rc.bid(bid);
+            lastBid = bid;
+            lastBidRound = round;
+            lastVotes = votes;
         }
-        //vote until you have more than half the votes
-        if (rc.getTeamVotes() < 751 && rc.getInfluence() > 0 && rc.getRoundNum() > 100) {
-            if ((wonEnemy + 5) > wonMars) {
-                //checks if we have an advantage, runs if statement when no advantage
-                if (voteCount[rc.getRoundNum()] == voteCount[rc.getRoundNum() - 1]) {
-                    //if the previous round was lost, bid one more as last time
-                    //or vote half this or three, depending on current influence
-                    int wantBid = amountVoted[rc.getRoundNum() - 1] + 1;
-                    if (rc.canBid(wantBid)) {
-                        amountVoted[rc.getRoundNum()] = wantBid;
-                        rc.bid(wantBid);
-                    } else {
-                        //tries to vote half, 3 or current influence (whatever is the highest possible)
-                        int wantVote = (int) Math.round(currentInfluence / 2.);
-                        if (rc.canBid(wantVote)) {
-                            amountVoted[rc.getRoundNum()] = wantVote;
-                            rc.bid(wantVote);
-                        } else if (rc.canBid(MINIMAL_BID)) {
-                            amountVoted[rc.getRoundNum()] = MINIMAL_BID;
-                            rc.bid(MINIMAL_BID);
-                        } else {
-                            int toBid = rc.getInfluence();
-                            amountVoted[rc.getRoundNum()] = toBid;
-                            rc.bid(toBid);
-                        }
+    }
 
-                    }
-                } else {
-                    //if won the previous round, either bid the same as last round,three or current influence
-                    int wantBid = amountVoted[rc.getRoundNum() - 1];
-                    if (rc.canBid(wantBid)) {
-                        amountVoted[rc.getRoundNum()] = wantBid;
-                        rc.bid(wantBid);
-                    } else if (rc.canBid(MINIMAL_BID)) {
-                        amountVoted[rc.getRoundNum()] = MINIMAL_BID;
-                        rc.bid(MINIMAL_BID);
-                    } else {
-                        int toBid = rc.getInfluence();
-                        amountVoted[rc.getRoundNum()] = toBid;
-                        rc.bid(toBid);
-                    }
-                }
-            } else {
-                //with an advantage of votes, just bid 1
-                if (rc.canBid(MINIMAL_BID)) {
-                    amountVoted[rc.getRoundNum()] = MINIMAL_BID;
-                    rc.bid(MINIMAL_BID);
-                } else {
-                    int toBid = rc.getInfluence();
-                    amountVoted[rc.getRoundNum()] = toBid;
-                    rc.bid(toBid);
-                }
+    /**
+     * Narrows the bracket with the outcome of the last bid.
+     */
+    private void update(boolean won) {
+        if (won) {
+            high = lastBid;
+            // the opponent may bid less now
+            if (++streak == PROBE_STREAK) {
+                low = low * 7 / 8;
+                streak = 0;
             }
+        } else {
+            low = lastBid;
+            streak = 0;
+            // the opponent bids more than before
+            if (high <= low)
+                high = UNKNOWN;
         }
     }
 
@@ -0,0 +1,101 @@
+package mars.robot.ec;
+
+import battlecode.common.MapLocation;
+import mars.robot.Robot;
+import mars.util.LoopBound;
+
+/**
+ * Fixed capacity table of known ECs, keyed by the 14 bit code of Robot.encodeLocation. Entries are stored in parallel
+ * columns [0, size) in insertion order and are never removed, so the table can be iterated by index. An open addressing
+ * hash table with linear probing maps codes to entry indices.
+ */
+final strictfp class EcTable {
+
+    /**
+     * Maximum number of ECs in the table, which exceeds the amount of ECs on any map.
+     */
+    static final int CAPACITY = 64;
+
+    /**
+     * Value of the ids column if the id of an EC is not known, the EC is not ours or it is this EC.
+     */
+    static final int NO_ID = 0;
+
+    // values of the states column
+    static final int
+            UNKNOWN = 0,
+            ALLY = 1,
+            ENEMY = 2,
+            NEUTRAL = 3;
+
+    // amount of hash slots, a power of 2 that keeps the load factor at most 1/2
+    private static final int SLOTS = 2 * CAPACITY;
+
+    // expected number of probes of a lookup, which is low as the load factor is at most 1/2
+    private static final int PROBES = 4;
+
+    // slots[h] is 1 + the entry index stored in slot h or 0 if the slot is empty
+    private final int[] slots = new int[SLOTS];
+
+    int size;
+    final int[] codes = new int[CAPACITY];
+    final MapLocation[] locations = new MapLocation[CAPACITY];
+    final int[] ids = new int[CAPACITY];
+    final int[] states = new int[CAPACITY];
+
+    static int hash(int code) {
+        return (code * 0x9E3779B1) >>> 25;
+    }
+
+    /**
+     * Returns the entry index of the EC with encoded location [code] or -1 if it is not in the table.
+     */
+    @LoopBound(PROBES)
+    int indexOf(int code) {
+        int slot = hash(code);
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            if (codes[entry - 1] == code)
+                return entry - 1;
+            slot = (slot + 1) & (SLOTS - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the entry index of the EC at [location], adding an entry without id in UNKNOWN state if it is not in the
+     * table yet. Returns -1 if the table is full.
+     */
+    @LoopBound(PROBES)
+    int add(MapLocation location) {
+        int code = Robot.encodeLocation(location);
+        int slot = hash(code);
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            if (codes[entry - 1] == code)
+                return entry - 1;
+            slot = (slot + 1) & (SLOTS - 1);
+        }
+        if (size == CAPACITY)
+            return -1;
+        int i = size++;
+        slots[slot] = i + 1;
+        codes[i] = code;
+        locations[i] = location;
+        ids[i] = NO_ID;
+        states[i] = UNKNOWN;
+        return i;
+    }
+
+    /**
+     * Sets the id and state of the EC at [location], adding it if needed.
+     */
+    void put(MapLocation location, int id, int state) {
+        int i = add(location);
+        if (i >= 0) {
+            ids[i] = id;
+            states[i] = state;
+        }
+    }
+
+}
@@ -1,33 +1,47 @@
 package mars.robot.ec;
 
 import battlecode.common.*;
+import mars.comm.BroadcastScheduler;
 import mars.robot.Politician;
 import mars.robot.Robot;
+import mars.util.LoopBound;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import static mars.Constants.*;
 
 public strictfp class EnlightenmentCenter extends Robot {
 
-    private final Bidder bidder = new Bidder(this);
+    private static final int
+            PHASE_SCAN_NEARBY = 3,
+            PHASE_SCAN_ECS = 4,
+            PHASE_POLL_UNITS = 5,
+            PHASE_COMPUTE_TARGETS = 6,
+            PHASE_BUILD_UNITS = 7,
+            PHASE_BID = 8;
+
+    // channels of the flag: the spawn instruction, a stream grant, knowledge for other ECs, two pairs of border codes
+    // and a target per politician type
+    static final int
+            CHANNEL_INSTRUCTION = 0,
+            CHANNEL_STREAM = 1,
+            CHANNEL_SYNC = 2,
+            CHANNEL_BORDERS = 3,
+            CHANNEL_TARGETS = 5;
+
+    private final Bidder bidder = new Bidder(rc);
     private final Scanner scanner = new Scanner(this);
 
     // targets for politician groups. targets[type.ordinal()] is the target of politician of type type.
     private final MapLocation[] targets = new MapLocation[Politician.Type.VALUES.length];
     private final int visionTiles;
-    // index of target that should be communicated this turn.
-    private int targetIndex;
+    private final BroadcastScheduler broadcasts = newBroadcasts();
     // flags used for communicating politician types to newly spawned politicians
     // there are 2 fields to make sure that the setting of this flag is delayed by 1 round
     private int newInstructionFlag;
     private int instructionFlag;
-    // indication of progress of sending "filler" flags: border locations for slanderers and attack locations for politicians
-    // values 0 and 1 are reserved for sending border locations, values >= 2 are for politician targets
-    private int flagCycle;
 
     public EnlightenmentCenter(RobotController rc) throws GameActionException {
         super(rc);
@@ -64,76 +78,127 @@ public strictfp class EnlightenmentCenter extends Robot {
         if (scanner.uppY != 0)
             visionTiles += 5 * (scanner.uppY - rc.getLocation().y) - 30;
         this.visionTiles = visionTiles;
+
+        // the symmetry computation has priority, since it would starve if it had to wait for the end of a scan cycle
+        scheduler.register(scanner::deduceSymmetryStep, 2, 4000);
+        scheduler.register(scanner::scanUnitsStep, 1, 2500);
+    }
+
+    /**
+     * Returns the scheduler for the channels of the flag.
+     */
+    static BroadcastScheduler newBroadcasts() {
+        final BroadcastScheduler broadcasts = new BroadcastScheduler(CHANNEL_TARGETS + Politician.Type.VALUES.length);
+        // a new politician must be instructed in the round after its spawn, so the instruction beats the grant when
+        // both expire in the same round. A changed target goes out in the next round.
+        broadcasts.configure(CHANNEL_INSTRUCTION, 4, 1);
+        broadcasts.configure(CHANNEL_TARGETS + Politician.Type.DEFENSIVE.ordinal(), 3, 2);
+        broadcasts.configure(CHANNEL_TARGETS + Politician.Type.OFFENSIVE.ordinal(), 2, 3);
+        broadcasts.configure(CHANNEL_STREAM, 1, 1);
+        broadcasts.configure(CHANNEL_SYNC, 0, 2);
+        broadcasts.configure(CHANNEL_BORDERS, 0, 6);
+        broadcasts.configure(CHANNEL_BORDERS + 1, 0, 6);
+        return broadcasts;
     }
 
     @Override
+    protected String[] profilerPhases() {
+        return new String[]{"step", "tasks", "updateFlag", "scanNearby", "scanECs", "pollUnits", "computeTargets", "buildUnits", "bid"};
+    }
+
+    @Override
+    @LoopBound(LoopBound.ECS)
     public void step() throws GameActionException {
+        if (PROFILE) profiler.begin(PHASE_SCAN_NEARBY);
         scanner.scanNearby();
+        if (PROFILE) profiler.end(PHASE_SCAN_NEARBY);
 
+        if (PROFILE) profiler.begin(PHASE_SCAN_ECS);
         scanner.scanECs();
+        scanner.scanPeers();
+        if (PROFILE) profiler.end(PHASE_SCAN_ECS);
 
+        if (PROFILE) profiler.begin(PHASE_POLL_UNITS);
+        scanner.pollUnits();
+        if (PROFILE) profiler.end(PHASE_POLL_UNITS);
+
+        if (PROFILE) profiler.begin(PHASE_COMPUTE_TARGETS);
         computeTargets();
+        if (PROFILE) profiler.end(PHASE_COMPUTE_TARGETS);
 
+        if (PROFILE) profiler.begin(PHASE_BUILD_UNITS);
         newInstructionFlag = buildUnits();
+        if (PROFILE) profiler.end(PHASE_BUILD_UNITS);
 
-        bidder.bid();
-
-        scanner.scanUnits();
+        if (PROFILE) profiler.begin(PHASE_BID);
+        bidder.bid(scanner.leadsPeers());
+        if (PROFILE) profiler.end(PHASE_BID);
 
         if (DEBUG) {
             if (scanner.scanParityBit)
                 rc.setIndicatorDot(rc.getLocation(), 0, 255, 255);
             else rc.setIndicatorDot(rc.getLocation(), 255, 255, 0);
 
-            for (Map.Entry<MapLocation, Integer> otherEC : scanner.ecs.entrySet()) {
-                if (otherEC.getKey().equals(rc.getLocation()))
+            final EcTable ecs = scanner.ecs;
+            for (int i = 0; i < ecs.size; i++) {
+                if (ecs.locations[i].equals(rc.getLocation()))
                     continue;
-                if (otherEC.getValue() == null) {
-                    rc.setIndicatorDot(otherEC.getKey(), 255, 0, 255);
+                if (ecs.ids[i] == EcTable.NO_ID) {
+                    rc.setIndicatorDot(ecs.locations[i], 255, 0, 255);
                 } else {
-                    rc.setIndicatorDot(otherEC.getKey(), 0, 255, 0);
+                    rc.setIndicatorDot(ecs.locations[i], 0, 255, 0);
                 }
             }
         }
     }
 
     @Override
+    @LoopBound({2, 2})
     protected void updateFlag() throws GameActionException {
-        int flagScanParityBit = scanner.scanParityBit ? F_B_EC_SCAN : 0;
-        if (instructionFlag > 0) {
-            // instruct newly spawned units with a flag
-            setFlagEncoded(flagScanParityBit | instructionFlag);
-        } else {
-            // use a filler flag
-
-            if ((scanner.slandererIncome == 0 || flagCycle >= (scanner.borderCodes.size() + 1) / 2) && flagCycle < 2)
-                flagCycle = 2;
-            if (flagCycle < 2) {
-                // send border coordinates
-                int i = flagCycle * 2;
-                if (scanner.borderCodes.size() == i + 1) {
-                    // only 1 border left to send
-                    setFlagEncoded(flagScanParityBit | F_V_EC_1_BORDER | scanner.borderCodes.get(i));
-                } else {
-                    // 2 borders left to send
-                    setFlagEncoded(flagScanParityBit | F_V_EC_2_BORDER | (scanner.borderCodes.get(i + 1) << 9) | scanner.borderCodes.get(i));
-                }
-            } else {
-                // if we did not have to send a keep alive message
-                // cycle through our attack targets to make every politician know what they should do
-                setFlagEncoded(flagScanParityBit | F_V_EC_ATTACK | Politician.Type.VALUES[targetIndex].spawnInstruction | encodeLocation(targets[targetIndex]));
-
-                targetIndex++;
-                if (targetIndex == targets.length)
-                    targetIndex = 0;
-            }
+        final int round = rc.getRoundNum();
+        // instruct newly spawned units with a flag, in this round only
+        if (instructionFlag > 0)
+            broadcasts.set(CHANNEL_INSTRUCTION, instructionFlag, round);
+        instructionFlag = newInstructionFlag;
 
-            flagCycle++;
-            if (flagCycle >= 2 + Politician.Type.VALUES.length)
-                flagCycle = 0;
+        // border locations for slanderers and other ECs
+        final List<Integer> borderCodes = scanner.borderCodes;
+        for (int pair = 0; pair < 2; pair++) {
+            final int i = pair * 2;
+            if (borderCodes.size() <= i)
+                broadcasts.clear(CHANNEL_BORDERS + pair);
+            else if (borderCodes.size() == i + 1)
+                broadcasts.set(CHANNEL_BORDERS + pair, F_V_EC_1_BORDER | borderCodes.get(i), BroadcastScheduler.NEVER);
+            else
+                broadcasts.set(CHANNEL_BORDERS + pair, F_V_EC_2_BORDER | (borderCodes.get(i + 1) << 9) | borderCodes.get(i), BroadcastScheduler.NEVER);
         }
 
-        instructionFlag = newInstructionFlag;
+        // attack locations make every politician know what they should do
+        for (int t = 0; t < targets.length; t++)
+            broadcasts.set(CHANNEL_TARGETS + t, F_V_EC_ATTACK | Politician.Type.VALUES[t].spawnInstruction | encodeLocation(targets[t]), BroadcastScheduler.NEVER);
+
+        // a stream grant tells a unit that its message was read and that its next messages are read every round
+        int grant = BroadcastScheduler.NONE;
+        if (scanner.grantSlot >= 0) {
+            grant = F_V_EC_STREAM | scanner.streamIds[scanner.grantSlot];
+            broadcasts.set(CHANNEL_STREAM, grant, round);
+        }
+
+        // the knowledge for other ECs is shared one item at a time
+        final int sync = scanner.syncMessage();
+        if (sync < 0)
+            broadcasts.clear(CHANNEL_SYNC);
+        else
+            broadcasts.rotate(CHANNEL_SYNC, sync);
+
+        final int message = broadcasts.next(round);
+        // the grant is only valid in this round, so the same unit can be granted again later
+        broadcasts.clear(CHANNEL_STREAM);
+        scanner.grantSent(message == grant);
+        if (sync >= 0 && message == sync)
+            scanner.advanceSync();
+        setFlagEncoded((scanner.scanParityBit ? F_B_EC_SCAN : 0) | (bidder.poor ? F_B_EC_POOR : 0)
+                | (message == BroadcastScheduler.NONE ? 0 : message));
     }
 
     /**
@@ -174,14 +239,15 @@ public strictfp class EnlightenmentCenter extends Robot {
         if (!targets[Politician.Type.OFFENSIVE.ordinal()].equals(rc.getLocation()) && scanner.offensivePoliticianPower < defaultOffensivePowerRequirement())
             return buildUnit(RobotType.POLITICIAN, defaultOffensivePoliticianInfluence(), Politician.Type.OFFENSIVE);
 
-        // make muckrakers if the borders of the map are not yet known
-        if (scanner.borderCodes.size() < 4)
+        // make muckrakers if the borders of the map are not yet known, unless friendly ECs are about to share them
+        if (scanner.borderCodes.size() < 4 && !scanner.awaitingSync())
             return buildUnit(RobotType.MUCKRAKER, 1, null);
 
         int defaultOverflowPoliticianInfluence = defaultOverflowPoliticianInfluence();
 
         float localMuckrakerDensity = ((float) scanner.nearbyFriendlyMuckrakers) / visionTiles;
-        float mapMuckrakerDensity = ((float) scanner.muckrakerCount) / ((scanner.uppX - scanner.lowX - 1) * (scanner.uppY - scanner.lowY - 1));
+        float mapMuckrakerDensity = scanner.borderCodes.size() < 4 ? 0
+                : ((float) scanner.muckrakerCount) / ((scanner.uppX - scanner.lowX - 1) * (scanner.uppY - scanner.lowY - 1));
 
         // backup influence sinks
         if (rc.getInfluence() > 2 * defaultOverflowPoliticianInfluence || localMuckrakerDensity > LOCAL_MUCKRAKER_DENSITY || mapMuckrakerDensity > MAP_MUCKRAKER_DENSITY) {
@@ -220,6 +286,7 @@ public strictfp class EnlightenmentCenter extends Robot {
      *
      * @return -1 if no unit could be spawned, 0 if a unit was spawned with politicianType null and a flag that should be used to instruct the spawned unit otherwise.
      */
+    @LoopBound(8)
     private int buildUnit(RobotType type, int influence, Politician.Type politicianType) throws GameActionException {
         MapLocation objective = rc.getLocation();
         if (politicianType != null)
@@ -271,6 +338,7 @@ public strictfp class EnlightenmentCenter extends Robot {
         }
     }
 
+    @LoopBound(LoopBound.ECS)
     private void computeTargets() {
         // make defensive politicians protect the EC and otherwise protect slanderers that are being attacked
 
@@ -288,9 +356,10 @@ public strictfp class EnlightenmentCenter extends Robot {
 
         MapLocation nearestUnownedEC = rc.getLocation();
         int minD2 = Integer.MAX_VALUE;
-        for (Map.Entry<MapLocation, Integer> otherEc : scanner.ecs.entrySet()) {
-            MapLocation location = otherEc.getKey();
-            if (location.equals(rc.getLocation()) || otherEc.getValue() != null)
+        final EcTable ecs = scanner.ecs;
+        for (int i = 0; i < ecs.size; i++) {
+            MapLocation location = ecs.locations[i];
+            if (ecs.ids[i] != EcTable.NO_ID || ecs.states[i] == EcTable.ALLY || location.equals(rc.getLocation()))
                 continue;
             int d2 = rc.getLocation().distanceSquaredTo(location);
             if (d2 < minD2) {
@@ -1,8 +1,11 @@
 package mars.robot.ec;
 
 import battlecode.common.*;
+import mars.comm.FlagCodec;
 import mars.robot.Politician;
 import mars.robot.Robot;
+import mars.util.LoopBound;
+import mars.util.SensorSnapshot;
 
 import java.util.*;
 
@@ -11,23 +14,41 @@ import static mars.robot.Robot.encodeCoordinate;
 
 public strictfp class Scanner {
 
-    // map of known EC locations to their IDs, the ID might be null, which indicates that their ID is not known yet or it is an enemy EC or it is this EC.
-    final Map<MapLocation, Integer> ecs = new HashMap<>();
+    private static final int
+            POLITICIAN = RobotType.POLITICIAN.ordinal(),
+            SLANDERER = RobotType.SLANDERER.ordinal(),
+            MUCKRAKER = RobotType.MUCKRAKER.ordinal(),
+            DEFENSIVE = Politician.Type.DEFENSIVE.ordinal(),
+            OFFENSIVE = Politician.Type.OFFENSIVE.ordinal();
+
+    /**
+     * Maximum number of units that are read every round.
+     */
+    private static final int STREAMS = 2;
+
+    /**
+     * Capacity of the ring buffer of slanderers by spawn round, a power of 2 that exceeds CAMOUFLAGE_NUM_ROUNDS.
+     */
+    private static final int SLANDERER_CAPACITY = 512, SLANDERER_MASK = SLANDERER_CAPACITY - 1;
+
+    /**
+     * Maximum number of friendly ECs whose flags are read.
+     */
+    private static final int PEERS = 16;
+
+    private static final int
+            TEAM_SHIFT = Integer.numberOfTrailingZeros(F_M_EC_TEAM),
+            SYMMETRY_SHIFT = Integer.numberOfTrailingZeros(F_M_EC_SYMMETRY);
+
+    // table of known EC locations and their IDs, the ID might be NO_ID, which indicates that their ID is not known yet or it is an enemy EC or it is this EC.
+    final EcTable ecs = new EcTable();
     final List<Integer> borderCodes = new ArrayList<>();
     private final EnlightenmentCenter ec;
     private final RobotController rc;
-    // list of UnitInfo of units that are spawned by this EC and have not died or been converted yet.
-    private final List<UnitInfo> units = new LinkedList<>();
-    private final List<UnitInfo> newUnits = new ArrayList<>();
+    // registry of units that are spawned by this EC and have not died or been converted yet.
+    private final UnitRegistry units = new UnitRegistry(64);
     int lowX, lowY, uppX, uppY;
-    private final Symmetry[] symmetries = new Symmetry[]{
-            // vertical symmetry
-            loc -> new MapLocation(loc.x, uppY - (loc.y - lowY)),
-            // horizontal symmetry
-            loc -> new MapLocation(uppX - (loc.x - lowX), loc.y),
-            // rotational symmetry
-            loc -> new MapLocation(uppX - (loc.x - lowX), uppY - (loc.y - lowY))
-    };
+    final SymmetryTracker symmetry;
     boolean scanParityBit;
     // fields of nearby scan
     int nearbyFriendlyMuckrakers;
@@ -36,38 +57,65 @@ public strictfp class Scanner {
     int nearbyEnemySlanderers;
     int strongestEnemySlanderer;
     MapLocation nearestEnemyLocation;
-    // fields of units scan
+    // running totals of the registered units, updated on spawn, death and the transitions of slanderers
     int offensivePoliticianPower;
     int defensivePoliticianPower;
-    int strongestDefensivePolitician;
     int slandererCount;
-
-    // usable variables
     int slandererIncome;
     int muckrakerCount;
+    // fields of units scan
+    int strongestDefensivePolitician;
+
+    // usable variables
     MapLocation panicSlanderer;
     // the map is within lowX, lowY (inclusive) and uppX, uppY (inclusive)
     // 0 values indicate unknown values
-    private Symmetry symmetry;
     // variables of current scan
-    private Iterator<UnitInfo> unitIterator;
-    private boolean scanNewECs;
-    private int scanOffensivePoliticianPower;
-    private int scanDefensivePoliticianPower;
+    private boolean scanning;
     private int scanStrongestDefensivePolitician;
-    private int scanSlandererCount;
-    private int scanSlandererIncome;
-    private int scanMuckrakerCount;
-    private MapLocation scanPanicSlanderer;
-    private int scanMaxPanicScore;
+    private int panicScore;
+    private int panicId;
+    private int panicRound;
+    // spawn message found by polling in this round
+    private int pollRow;
+    private int pollMessage;
+    // units that were granted a stream are read every round up to and including their stream end, 0 marks a free slot
+    final int[] streamIds = new int[STREAMS];
+    private final int[] streamRows = new int[STREAMS];
+    private final int[] streamEnds = new int[STREAMS];
+    // slot of the stream that is granted by the flag of this round or -1
+    int grantSlot = -1;
+    // slanderers that have not camouflaged yet at index spawn round & SLANDERER_MASK, since at most one unit is spawned
+    // per round. The id is 0 if there is no such slanderer or it died.
+    private final int[] slandererIds = new int[SLANDERER_CAPACITY];
+    private final int[] slandererSpawnRounds = new int[SLANDERER_CAPACITY];
+    private final int[] slandererInfluences = new int[SLANDERER_CAPACITY];
+    // last round of which the transitions of slanderers have been applied
+    private int slandererUpdate;
+    // whether this EC existed in the first round, the other ECs were captured
+    private final boolean starting;
+    // ids of the friendly ECs other than this one, whose flags share their knowledge
+    private final int[] peerIds = new int[PEERS];
+    // whether the last flag of the friendly EC in the same position of peerIds had F_B_EC_POOR set
+    private final boolean[] peerPoor = new boolean[PEERS];
+    private int peerCount;
+    // round in which the first friendly EC was found or 0
+    private int syncStart;
+    // item of the knowledge of this EC that is shared next, every EC in the table has 2 items: location and id
+    private int syncCursor;
 
     Scanner(EnlightenmentCenter ec) {
         this.ec = ec;
         rc = ec.rc;
-        ecs.put(rc.getLocation(), null);
+        ecs.put(rc.getLocation(), EcTable.NO_ID, EcTable.ALLY);
+        // ECs that exist in the first round are the starting ECs
+        starting = rc.getRoundNum() == 1;
+        symmetry = new SymmetryTracker(ecs, rc.getLocation(), rc.getType().sensorRadiusSquared, starting ? 0 : -1);
+        slandererUpdate = rc.getRoundNum();
     }
 
-    void scanNearby() {
+    @LoopBound(LoopBound.ROBOTS)
+    void scanNearby() throws GameActionException {
         // reset fields
         nearbyFriendlyMuckrakers = 0;
         nearbyEnemyMuckrakers = 0;
@@ -79,16 +127,26 @@ public strictfp class Scanner {
         int minD2 = Integer.MAX_VALUE;
 
         // scan vision range for information
-        for (RobotInfo robot : rc.senseNearbyRobots()) {
-            if (robot.getType() == RobotType.ENLIGHTENMENT_CENTER) {
+        final SensorSnapshot sensor = ec.sensor;
+        final RobotInfo[] robots = sensor.robots;
+        final int[] distances = sensor.distances;
+        final Team ally = rc.getTeam();
+        final Team enemy = ally.opponent();
+        for (int i = 0; i < sensor.size; i++) {
+            final RobotInfo robot = robots[i];
+            if (robot.type == RobotType.ENLIGHTENMENT_CENTER) {
                 // update state of ECs if we can manually sense them
-                ecs.put(robot.location, robot.team == rc.getTeam() ? robot.ID : null);
-            } else if (robot.team == rc.getTeam().opponent()) {
+                if (robot.team == ally) {
+                    ecs.put(robot.location, robot.ID, EcTable.ALLY);
+                    addPeer(robot.ID);
+                } else
+                    ecs.put(robot.location, EcTable.NO_ID, robot.team == Team.NEUTRAL ? EcTable.NEUTRAL : EcTable.ENEMY);
+            } else if (robot.team == enemy) {
                 // count enemy robots
                 if (robot.type == RobotType.MUCKRAKER) {
                     nearbyEnemyMuckrakers++;
                     strongestEnemyMuckraker = Math.max(strongestEnemyMuckraker, robot.conviction);
-                    int d2 = rc.getLocation().distanceSquaredTo(robot.location);
+                    int d2 = distances[i];
                     if (d2 < minD2) {
                         minD2 = d2;
                         nearestEnemyLocation = rc.getLocation();
@@ -96,224 +154,577 @@ public strictfp class Scanner {
                 } else if (robot.type == RobotType.SLANDERER) {
                     nearbyEnemySlanderers++;
                     strongestEnemySlanderer = Math.max(strongestEnemySlanderer, robot.conviction);
-                    int d2 = rc.getLocation().distanceSquaredTo(robot.location);
+                    int d2 = distances[i];
                     if (d2 < minD2) {
                         minD2 = d2;
                         nearestEnemyLocation = rc.getLocation();
                     }
                 }
-            } else if (robot.type == RobotType.MUCKRAKER && robot.team == rc.getTeam()) {
+            } else if (robot.type == RobotType.MUCKRAKER && robot.team == ally) {
                 nearbyFriendlyMuckrakers++;
+            } else if (robot.type == RobotType.POLITICIAN && robot.team == ally && peerCount == 0 && !starting) {
+                // the politicians that captured this EC tell the id of their spawn
+                final int message = ec.getFlagDecoded(robot.ID);
+                if ((message & F_M_ACTION) == F_V_COMMUNICATE_SPAWN)
+                    addPeer(message & F_M_ID);
             }
         }
     }
 
+    @LoopBound(LoopBound.ECS)
     void scanECs() {
-        for (Map.Entry<MapLocation, Integer> otherEc : ecs.entrySet()) {
-            Integer id = otherEc.getValue();
-            if (id == null)
+        final EcTable ecs = this.ecs;
+        for (int i = 0; i < ecs.size; i++) {
+            int id = ecs.ids[i];
+            if (id == EcTable.NO_ID)
                 continue;
-            if (!rc.canGetFlag(id))
-                otherEc.setValue(null);
+            // we can no longer read the flag of ECs that have been converted
+            if (!rc.canGetFlag(id)) {
+                ecs.ids[i] = EcTable.NO_ID;
+                ecs.states[i] = EcTable.ENEMY;
+            }
         }
     }
 
-    void scanUnits() throws GameActionException {
-        // if at the begin of the scan cycle, initialize the scan and scan ECs
-        if (unitIterator == null) {
-            unitIterator = units.iterator();
-            scanNewECs = false;
+    /**
+     * Reads the flags of the friendly ECs and merges the ECs, borders, symmetry and friendly EC ids that they share
+     * into the knowledge of this EC.
+     */
+    @LoopBound(LoopBound.PEERS)
+    void scanPeers() throws GameActionException {
+        // backwards, since a lost EC is replaced by the last one
+        for (int p = peerCount - 1; p >= 0; p--) {
+            final int id = peerIds[p];
+            if (rc.canGetFlag(id)) {
+                final int message = ec.getFlagDecoded(id);
+                peerPoor[p] = (message & F_B_EC_POOR) != 0;
+                readPeerMessage(message);
+            } else {
+                peerIds[p] = peerIds[--peerCount];
+                peerPoor[p] = peerPoor[peerCount];
+            }
+        }
+    }
+
+    private void readPeerMessage(int message) {
+        final int action = message & F_M_ACTION;
+        if (action == F_V_EC_KNOWN) {
+            final int j = addEC(ec.decodeLocation(message));
+            if (j >= 0 && ecs.states[j] == EcTable.UNKNOWN)
+                ecs.states[j] = (message & F_M_EC_TEAM) >>> TEAM_SHIFT;
+            final int code = (message & F_M_EC_SYMMETRY) >>> SYMMETRY_SHIFT;
+            if (code != 0 && symmetry.symmetry == 0)
+                symmetry.assume(SymmetryTracker.fromCode(code));
+        } else if (action == F_V_EC_PEER) {
+            addPeer(message & F_M_EC_PEER_ID);
+        } else if (action == F_V_EC_1_BORDER) {
+            addBorder(message & F_M_BORDER);
+        } else if (action == F_V_EC_2_BORDER) {
+            addBorder(message >>> 9 & F_M_BORDER);
+            addBorder(message & F_M_BORDER);
+        }
+    }
+
+    /**
+     * Adds the friendly EC with [id] to the ECs whose flags are read.
+     */
+    @LoopBound(LoopBound.PEERS)
+    private void addPeer(int id) {
+        if (id == rc.getID() || peerCount == PEERS)
+            return;
+        for (int p = 0; p < peerCount; p++)
+            if (peerIds[p] == id)
+                return;
+        peerPoor[peerCount] = false;
+        peerIds[peerCount++] = id;
+        if (syncStart == 0)
+            syncStart = rc.getRoundNum();
+    }
+
+    /**
+     * Returns whether this EC has the lowest id of the friendly ECs that it knows of, not counting the ECs that could not
+     * afford their bid in the last round.
+     */
+    @LoopBound(LoopBound.PEERS)
+    boolean leadsPeers() {
+        final int id = rc.getID();
+        for (int p = 0; p < peerCount; p++)
+            if (peerIds[p] < id && !peerPoor[p])
+                return false;
+        return true;
+    }
+
+    /**
+     * Returns whether this EC was captured and can expect to learn the map from friendly ECs soon.
+     */
+    boolean awaitingSync() {
+        return !starting && syncStart != 0 && rc.getRoundNum() - syncStart < SYNC_ROUNDS;
+    }
+
+    /**
+     * Returns the next item of the knowledge that is shared with other ECs, which is an F_V_EC_KNOWN message with a
+     * known EC, its team and the symmetry, or an F_V_EC_PEER message with the id of a friendly EC. Returns -1 if there
+     * is nothing to share.
+     */
+    @LoopBound(2 * LoopBound.ECS)
+    int syncMessage() {
+        final EcTable ecs = this.ecs;
+        final int items = 2 * ecs.size;
+        for (int n = 0; n < items; n++) {
+            if (syncCursor >= items)
+                syncCursor = 0;
+            final int i = syncCursor >> 1;
+            if ((syncCursor & 1) == 0)
+                return F_V_EC_KNOWN | ecs.states[i] << TEAM_SHIFT | symmetry.code() << SYMMETRY_SHIFT | ecs.codes[i];
+            if (ecs.ids[i] != EcTable.NO_ID)
+                return F_V_EC_PEER | ecs.ids[i];
+            syncCursor++;
+        }
+        return -1;
+    }
+
+    /**
+     * Moves on to the next item of syncMessage(), after the current one was sent.
+     */
+    void advanceSync() {
+        syncCursor++;
+    }
+
+    /**
+     * Scans the flag of the next unit in the scan cycle. Returns false at the end of a scan cycle, so that the next cycle
+     * starts in the next turn.
+     */
+    boolean scanUnitsStep() throws GameActionException {
+        final UnitRegistry units = this.units;
+
+        // if at the begin of the scan cycle, initialize the scan
+        if (!scanning) {
+            scanning = true;
+            units.cursor = 0;
 
-            scanOffensivePoliticianPower = 0;
-            scanDefensivePoliticianPower = 0;
             scanStrongestDefensivePolitician = Integer.MIN_VALUE;
-            scanSlandererCount = 0;
-            scanSlandererIncome = 0;
-            scanMuckrakerCount = 0;
-            scanPanicSlanderer = null;
-            scanMaxPanicScore = Integer.MIN_VALUE;
         }
 
-        while (Clock.getBytecodesLeft() > 2500 && unitIterator.hasNext()) {
-            UnitInfo unit = unitIterator.next();
-            // checks whether unit is still alive, if not, remove it from units set
-            if (rc.canGetFlag(unit.id)) {
-                scanUnit(unit, ec.getFlagDecoded(unit.id));
+        if (units.cursor < units.size) {
+            int i = units.cursor;
+            int id = units.ids[i];
+            // checks whether unit is still alive, if not, remove it from the registry
+            if (rc.canGetFlag(id)) {
+                scanUnit(i, ec.getFlagDecoded(id));
+                units.cursor++;
             } else {
-                unitIterator.remove();
+                // the last unit is moved into row i, so the cursor stays put
+                removeUnit(i);
             }
+            return true;
         }
 
-        // if at the end of the scan cycle
-        if (!unitIterator.hasNext()) {
-            // deduce more information about the map
-            if (scanNewECs && borderCodes.size() == 4 && symmetry == null) {
-                // if we estimate that we do not have enough bytecodes for the symmetry computation, procrastinate this to next turn
-                if (Clock.getBytecodesLeft() < 4000)
-                    return;
-
-                symmetry = deduceSymmetry();
-                if (symmetry != null) {
-                    // we can now compute the locations of other ECs
-                    for (MapLocation ec : ecs.keySet().toArray(new MapLocation[ecs.size()]))
-                        if (!ecs.containsKey(ec))
-                            ecs.put(symmetry.other(ec), null);
-                }
+        scanning = false;
+
+        // update all usable non scan variables
+        strongestDefensivePolitician = scanStrongestDefensivePolitician;
+
+        // swap scan parity bit
+        scanParityBit = !scanParityBit;
+        return false;
+    }
+
+    /**
+     * Rules out symmetries with the ECs and borders that were learned since the last step, and adds the mirror images
+     * of the known ECs once the symmetry is known. Always returns false, since there is at most one step per turn.
+     */
+    @LoopBound(LoopBound.ECS)
+    boolean deduceSymmetryStep() {
+        final SymmetryTracker symmetry = this.symmetry;
+        if (symmetry.symmetry != 0)
+            return false;
+        symmetry.setSums(lowX != 0 && uppX != 0 ? lowX + uppX : 0, lowY != 0 && uppY != 0 ? lowY + uppY : 0);
+        if (symmetry.update()) {
+            // we can now compute the locations of other ECs
+            for (int i = 0, n = ecs.size; i < n; i++)
+                ecs.add(symmetry.mirror(ecs.locations[i]));
+        }
+        return false;
+    }
+
+    /**
+     * Processes the flag [message] of the unit in row [i] of the registry.
+     */
+    private void scanUnit(int i, int message) {
+        final UnitRegistry units = this.units;
+        int action = message & F_M_ACTION;
+        int round = rc.getRoundNum();
+        observe(i, message, round);
+        int type = units.types[i];
+
+        if (type == POLITICIAN && units.politicianTypes[i] == DEFENSIVE)
+            scanStrongestDefensivePolitician = Math.max(scanStrongestDefensivePolitician, Math.max(units.influences[i] - 10, 0));
+        else if (type == SLANDERER && action == F_V_SLANDERER_PANIC)
+            notePanic(i, message, round);
+
+        // messages of streaming units are read by scanStreams()
+        if (!queued(action) || streaming(units.ids[i]))
+            return;
+        readMessage(i, message);
+        requestStream(i, round);
+    }
+
+    /**
+     * Reads the flags of the streaming units and of the hot and warm units that are due. Since slanderers are always
+     * hot, a panicking slanderer is noticed within PANIC_LATENCY_ROUNDS rounds, whatever the number of units.
+     */
+    void pollUnits() throws GameActionException {
+        final int round = rc.getRoundNum();
+        updateSlanderers(round);
+        // a slanderer that still panics has been read again by now
+        if (panicSlanderer != null && round - panicRound > PANIC_LATENCY_ROUNDS)
+            panicSlanderer = null;
+
+        scanStreams(round);
+        pollRow = -1;
+        pollTier(UnitRegistry.HOT, PANIC_LATENCY_ROUNDS, round);
+        pollTier(UnitRegistry.WARM, WARM_POLL_ROUNDS, round);
+        // a single spawn message per round is enough, since a single stream is granted per round
+        if (pollRow >= 0) {
+            readMessage(pollRow, pollMessage);
+            requestStream(pollRow, round);
+        }
+    }
+
+    /**
+     * Reads the flags of the units in [tier] that have not been read in the last [interval] rounds.
+     */
+    @LoopBound(LoopBound.POLLED_UNITS)
+    private void pollTier(int tier, int interval, int round) throws GameActionException {
+        final UnitRegistry units = this.units;
+        final int[] rows = units.tierRows[tier];
+        // backwards, since a unit that leaves the tier is replaced by the last unit of the list
+        for (int p = units.tierSizes[tier] - 1; p >= 0; p--) {
+            final int i = rows[p];
+            if (round - units.lastReads[i] < interval)
+                continue;
+            final int id = units.ids[i];
+            if (!rc.canGetFlag(id)) {
+                // the unit is removed by the next scan cycle
+                subtract(i, round);
+                units.types[i] = UnitRegistry.DEAD;
+                units.setTier(i, UnitRegistry.COLD);
+                continue;
             }
+            final int message = ec.getFlagDecoded(id);
+            observe(i, message, round);
+            final int action = message & F_M_ACTION;
+            if (action == F_V_SLANDERER_PANIC && units.types[i] == SLANDERER) {
+                notePanic(i, message, round);
+            } else if (pollRow < 0 && grantSlot < 0 && queued(action) && !streaming(id)) {
+                pollRow = i;
+                pollMessage = message;
+            }
+        }
+    }
 
-            unitIterator = null;
+    /**
+     * Records that the unit in row [i] showed [message] in [round] and moves it to the tier that fits its type and
+     * activity. New units start out active.
+     */
+    private void observe(int i, int message, int round) {
+        final UnitRegistry units = this.units;
+        // slanderers turn into politicians after a fixed amount of rounds
+        if (units.types[i] == SLANDERER && round - units.spawnRounds[i] >= GameConstants.CAMOUFLAGE_NUM_ROUNDS)
+            units.types[i] = POLITICIAN;
+        if (message != units.lastFlags[i] || queued(message & F_M_ACTION))
+            units.activeRounds[i] = round;
+        units.lastFlags[i] = message;
+        units.lastReads[i] = round;
+        if (units.ids[i] == panicId && (message & F_M_ACTION) != F_V_SLANDERER_PANIC)
+            panicSlanderer = null;
+
+        final int quiet = round - units.activeRounds[i];
+        units.setTier(i, units.types[i] == SLANDERER || quiet < HOT_ACTIVITY_ROUNDS ? UnitRegistry.HOT
+                : quiet < WARM_ACTIVITY_ROUNDS ? UnitRegistry.WARM : UnitRegistry.COLD);
+    }
 
-            // add all units that have been created since last scan
-            units.addAll(newUnits);
+    /**
+     * Makes the slanderer in row [i] that panics with [message] the panic slanderer if it beats the current one.
+     */
+    private void notePanic(int i, int message, int round) {
+        final UnitRegistry units = this.units;
+        final MapLocation location = ec.decodeLocation(message);
+        final boolean embezzling = round - units.spawnRounds[i] < GameConstants.EMBEZZLE_NUM_ROUNDS;
+        // choose the nearest slanderer of the slanderers with the highest influence and prefer slanderers that actively generate income
+        final int score = 2 * MAX_DISTANCE_SQUARED * units.influences[i] + (embezzling ? MAX_DISTANCE_SQUARED : 0) - rc.getLocation().distanceSquaredTo(location);
+        if (panicSlanderer == null || score > panicScore || units.ids[i] == panicId) {
+            panicSlanderer = location;
+            panicScore = score;
+            panicId = units.ids[i];
+            panicRound = round;
+        }
+    }
 
-            // update all usable non scan variables
-            newUnits.clear();
-            offensivePoliticianPower = scanOffensivePoliticianPower;
-            defensivePoliticianPower = scanDefensivePoliticianPower;
-            strongestDefensivePolitician = scanStrongestDefensivePolitician;
-            slandererCount = scanSlandererCount;
-            slandererIncome = scanSlandererIncome;
-            muckrakerCount = scanMuckrakerCount;
-            panicSlanderer = scanPanicSlanderer;
+    /**
+     * Reads the flags of the units that were granted a stream. A stream ends when a unit shows a flag that is not
+     * from its queue of spawn messages, or at its stream end, unless it is granted again for the rounds after that.
+     */
+    private void scanStreams(int round) throws GameActionException {
+        // unrolled for STREAMS = 2
+        if (streamEnds[0] != 0)
+            scanStream(0, round);
+        if (streamEnds[1] != 0)
+            scanStream(1, round);
+    }
 
-            // swap scan parity bit
-            scanParityBit = !scanParityBit;
+    private void scanStream(int s, int round) throws GameActionException {
+        final int id = streamIds[s];
+        final int message = rc.canGetFlag(id) ? ec.getFlagDecoded(id) : 0;
+        if (!queued(message & F_M_ACTION)) {
+            streamEnds[s] = 0;
+            return;
+        }
+        units.lastReads[streamRows[s]] = round;
+        readMessage(streamRows[s], message);
+        if (round == streamEnds[s]) {
+            streamEnds[s] = 0;
+            requestStream(streamRows[s], round);
         }
     }
 
-    private void scanUnit(UnitInfo unit, int message) {
-        int action = message & F_M_ACTION;
-        RobotType type = unit.getType();
-
-        if (type == RobotType.POLITICIAN) {
-            int power = Math.max(unit.influence - 10, 0);
-            if (unit.politicianType == Politician.Type.DEFENSIVE) {
-                scanDefensivePoliticianPower += power;
-                scanStrongestDefensivePolitician = Math.max(scanStrongestDefensivePolitician, power);
-            } else if (unit.politicianType == Politician.Type.OFFENSIVE) {
-                scanOffensivePoliticianPower += power;
+    /**
+     * Ends the grant of this round, which was shown on the flag if [sent] is true.
+     */
+    void grantSent(boolean sent) {
+        if (grantSlot >= 0 && !sent)
+            streamEnds[grantSlot] = 0;
+        grantSlot = -1;
+    }
+
+    /**
+     * Reserves a stream for the unit in row [i] that is granted by the flag of [round], if there is no grant in this
+     * round yet and a slot is free.
+     */
+    @LoopBound(STREAMS)
+    private void requestStream(int i, int round) {
+        if (grantSlot >= 0)
+            return;
+        for (int s = 0; s < STREAMS; s++) {
+            if (streamEnds[s] == 0) {
+                streamIds[s] = units.ids[i];
+                streamRows[s] = i;
+                streamEnds[s] = round + STREAM_ROUNDS;
+                grantSlot = s;
+                return;
             }
-        } else if (type == RobotType.SLANDERER) {
-            slandererCount++;
-            if (unit.embezzling())
-                scanSlandererIncome += slandererEmbezzle(unit.influence);
-            if (action == F_V_SLANDERER_PANIC) {
-                MapLocation location = ec.decodeLocation(message);
-                // choose the nearest slanderer of the slanderers with the highest influence and prefer slanderers that actively generate income
-                int panicScore = 2 * MAX_DISTANCE_SQUARED * unit.influence + (unit.embezzling() ? MAX_DISTANCE_SQUARED : 0) - rc.getLocation().distanceSquaredTo(location);
-                if (panicScore > scanMaxPanicScore) {
-                    scanMaxPanicScore = panicScore;
-                    scanPanicSlanderer = location;
-                }
+        }
+    }
+
+    @LoopBound(STREAMS)
+    private boolean streaming(int id) {
+        for (int s = 0; s < STREAMS; s++)
+            if (streamEnds[s] != 0 && streamIds[s] == id)
+                return true;
+        return false;
+    }
+
+    /**
+     * Returns whether [action] is the action of a message from the queue of spawn messages of a unit.
+     */
+    private static boolean queued(int action) {
+        return action == F_V_NEW_BORDER || action == F_V_NEW_EC_COORDINATES || action == F_V_NEW_EC_ID
+                || action == FlagCodec.EC_FOUND || action == FlagCodec.BORDERS;
+    }
+
+    /**
+     * Removes row [i] of the registry and moves the streams along with the rows.
+     */
+    @LoopBound(STREAMS)
+    private void removeUnit(int i) {
+        if (units.types[i] != UnitRegistry.DEAD)
+            subtract(i, rc.getRoundNum());
+        final int last = units.size - 1;
+        units.remove(i);
+        for (int s = 0; s < STREAMS; s++) {
+            if (streamEnds[s] == 0)
+                continue;
+            if (streamRows[s] == i) {
+                streamEnds[s] = 0;
+                if (grantSlot == s)
+                    grantSlot = -1;
+            } else if (streamRows[s] == last) {
+                streamRows[s] = i;
             }
-        } else if (type == RobotType.MUCKRAKER) {
-            scanMuckrakerCount++;
         }
-        if (action == F_V_NEW_EC_COORDINATES) {
-            MapLocation location = ec.decodeLocation(message);
-            unit.lastLocation = location;
-            if (!ecs.containsKey(location)) {
-                ecs.put(location, null);
-                if (symmetry == null) {
-                    scanNewECs = true;
-                } else {
-                    location = symmetry.other(location);
-                    if (!ecs.containsKey(location))
-                        ecs.put(symmetry.other(location), null);
+    }
+
+    /**
+     * Processes the spawn message [message] of the unit in row [i] of the registry.
+     */
+    private void readMessage(int i, int message) {
+        final UnitRegistry units = this.units;
+        final int action = message & F_M_ACTION;
+        if (action == FlagCodec.EC_FOUND) {
+            // version 2: the location is relative to this EC, which is the spawn of the unit
+            final MapLocation here = rc.getLocation();
+            final MapLocation location = new MapLocation(here.x + FlagCodec.dx(message), here.y + FlagCodec.dy(message));
+            final int j = addEC(location);
+            units.ecCodes[i] = Robot.encodeLocation(location);
+            final int team = FlagCodec.team(message);
+            if (j >= 0 && team == FlagCodec.TEAM_ALLY) {
+                // without a delta, the id follows in an F_V_NEW_EC_ID message
+                final int idDelta = FlagCodec.idDelta(message);
+                if (idDelta != FlagCodec.NO_ID_DELTA) {
+                    ecs.ids[j] = rc.getID() + idDelta;
+                    addPeer(ecs.ids[j]);
                 }
+                ecs.states[j] = EcTable.ALLY;
+            } else if (j >= 0 && team != FlagCodec.TEAM_UNKNOWN) {
+                ecs.ids[j] = EcTable.NO_ID;
+                ecs.states[j] = team == FlagCodec.TEAM_ENEMY ? EcTable.ENEMY : EcTable.NEUTRAL;
             }
+        } else if (action == FlagCodec.BORDERS) {
+            addBorder(FlagCodec.firstBorder(message));
+            addBorder(FlagCodec.secondBorder(message));
+        } else if (action == F_V_NEW_EC_COORDINATES) {
+            int code = message & F_M_LOCATION;
+            units.ecCodes[i] = code;
+            if (ecs.indexOf(code) < 0)
+                addEC(ec.decodeLocation(message));
         } else if (action == F_V_NEW_EC_ID) {
-            if (unit.lastLocation != null)
-                ecs.put(unit.lastLocation, message & F_M_ID);
+            int j = units.ecCodes[i] == UnitRegistry.NO_EC_CODE ? -1 : ecs.indexOf(units.ecCodes[i]);
+            if (j >= 0) {
+                ecs.ids[j] = message & F_M_ID;
+                addPeer(ecs.ids[j]);
+                ecs.states[j] = EcTable.ALLY;
+            }
         } else if (action == F_V_NEW_BORDER) {
-            if (borderCodes.size() < 4) {
-                if ((message & F_B_COORDINATE_TYPE) == 0) {
-                    // x coordinate is being communicated
-                    int c = Robot.decodeCoordinate(message, rc.getLocation().x);
-                    if (c <= rc.getLocation().x) {
-                        if (lowX == 0) {
-                            lowX = c;
-                            borderCodes.add(F_V_BORDER_L | encodeCoordinate(lowX));
-                        }
-                    } else {
-                        if (uppX == 0) {
-                            uppX = c;
-                            borderCodes.add(F_V_BORDER_R | encodeCoordinate(uppX));
-                        }
-                    }
-                } else {
-                    // y coordinate is being communicated
-                    int c = Robot.decodeCoordinate(message, rc.getLocation().y);
-                    if (c <= rc.getLocation().y) {
-                        if (lowY == 0) {
-                            lowY = c;
-                            borderCodes.add(F_V_BORDER_B | encodeCoordinate(lowY));
-                        }
-                    } else {
-                        if (uppY == 0) {
-                            uppY = c;
-                            borderCodes.add(F_V_BORDER_T | encodeCoordinate(uppY));
-                        }
-                    }
-                }
+            // version 1: the side of the border follows from the side of this EC that it is on
+            if ((message & F_B_COORDINATE_TYPE) == 0) {
+                int c = Robot.decodeCoordinate(message, rc.getLocation().x);
+                addBorder((c <= rc.getLocation().x ? F_V_BORDER_L : F_V_BORDER_R) | encodeCoordinate(c));
+            } else {
+                int c = Robot.decodeCoordinate(message, rc.getLocation().y);
+                addBorder((c <= rc.getLocation().y ? F_V_BORDER_B : F_V_BORDER_T) | encodeCoordinate(c));
             }
         }
     }
 
-    void registerUnit(RobotInfo robot, Politician.Type politicianType) {
-        newUnits.add(new UnitInfo(robot, politicianType));
+    /**
+     * Adds the EC at [location] if it is not known yet, together with its mirror image if the symmetry is known. Returns
+     * the entry index of the EC or -1 if the table is full.
+     */
+    private int addEC(MapLocation location) {
+        final int known = ecs.size;
+        final int j = ecs.add(location);
+        if (ecs.size > known && symmetry.symmetry != 0)
+            ecs.add(symmetry.mirror(location));
+        return j;
     }
 
     /**
-     * Deduces the symmetry of the map if it can be found or returns null if it can not be determined.
+     * Stores the border of [code], which is one of F_V_BORDER_L, R, B or T with an encoded coordinate, if that border
+     * is not known yet.
      */
-    private Symmetry deduceSymmetry() {
-        // should actually be checking the owner of the ECs as well, but this is not guaranteed to be correct
-        MapLocation[] ecs = this.ecs.keySet().toArray(new MapLocation[this.ecs.size()]);
-        for (Symmetry symmetry : symmetries)
-            for (int i = 0; i < ecs.length; i++)
-                for (int j = i + 1; j < ecs.length; j++)
-                    if (symmetry.other(ecs[i]).equals(ecs[j]))
-                        return symmetry;
-        return null;
+    private void addBorder(int code) {
+        final MapLocation here = rc.getLocation();
+        final int type = code & F_V_BORDER_T;
+        if (type == F_V_BORDER_L || type == F_V_BORDER_R) {
+            final int c = Robot.decodeCoordinate(code, here.x);
+            if (type == F_V_BORDER_L && lowX == 0)
+                lowX = c;
+            else if (type == F_V_BORDER_R && uppX == 0)
+                uppX = c;
+            else
+                return;
+        } else {
+            final int c = Robot.decodeCoordinate(code, here.y);
+            if (type == F_V_BORDER_B && lowY == 0)
+                lowY = c;
+            else if (type == F_V_BORDER_T && uppY == 0)
+                uppY = c;
+            else
+                return;
+        }
+        borderCodes.add(code);
     }
 
-    @FunctionalInterface
-    private interface Symmetry {
-        MapLocation other(MapLocation loc);
+    void registerUnit(RobotInfo robot, Politician.Type politicianType) {
+        // slanderer converted politicians are automatically defensive
+        int politicianTypeOrdinal = robot.type == RobotType.SLANDERER ? DEFENSIVE
+                : politicianType == null ? UnitRegistry.NO_POLITICIAN_TYPE : politicianType.ordinal();
+        int round = rc.getRoundNum();
+        int i = units.add(robot.ID, robot.influence, round, robot.type.ordinal(), politicianTypeOrdinal);
+        units.setTier(i, UnitRegistry.HOT);
+
+        int type = units.types[i];
+        int power = Math.max(robot.influence - 10, 0);
+        if (type == POLITICIAN) {
+            if (politicianTypeOrdinal == DEFENSIVE) {
+                defensivePoliticianPower += power;
+                strongestDefensivePolitician = Math.max(strongestDefensivePolitician, power);
+            } else if (politicianTypeOrdinal == OFFENSIVE) {
+                offensivePoliticianPower += power;
+            }
+        } else if (type == SLANDERER) {
+            slandererCount++;
+            slandererIncome += slandererEmbezzle(robot.influence);
+            final int j = round & SLANDERER_MASK;
+            slandererIds[j] = robot.ID;
+            slandererSpawnRounds[j] = round;
+            slandererInfluences[j] = robot.influence;
+        } else if (type == MUCKRAKER) {
+            muckrakerCount++;
+        }
     }
 
     /**
-     * Represents units spawned by an EC that have not died or been converted yet.
+     * Applies the transitions of the slanderers that stop embezzling or turn into defensive politicians in [round].
      */
-    private class UnitInfo {
-
-        final int influence;
-        final int id;
-        final int spawnRound;
-        final Politician.Type politicianType;
-        RobotType type;
-        MapLocation lastLocation;
-
-        private UnitInfo(RobotInfo robot, Politician.Type politicianType) {
-            type = robot.type;
-            influence = robot.influence;
-            id = robot.ID;
-            spawnRound = rc.getRoundNum();
-            // slanderer converted politicians are automatically defensive
-            this.politicianType = robot.type == RobotType.SLANDERER ? Politician.Type.DEFENSIVE : politicianType;
-        }
-
-        private RobotType getType() {
-            if (type == RobotType.SLANDERER && (rc.getRoundNum() - spawnRound) >= GameConstants.CAMOUFLAGE_NUM_ROUNDS)
-                type = RobotType.POLITICIAN;
-            return type;
+    @LoopBound(2)
+    private void updateSlanderers(int round) {
+        // a single round, unless a turn was skipped
+        for (int r = slandererUpdate + 1; r <= round; r++) {
+            final int embezzled = r - GameConstants.EMBEZZLE_NUM_ROUNDS;
+            int j = embezzled & SLANDERER_MASK;
+            if (slandererIds[j] != 0 && slandererSpawnRounds[j] == embezzled)
+                slandererIncome -= slandererEmbezzle(slandererInfluences[j]);
+
+            final int camouflaged = r - GameConstants.CAMOUFLAGE_NUM_ROUNDS;
+            j = camouflaged & SLANDERER_MASK;
+            if (slandererIds[j] != 0 && slandererSpawnRounds[j] == camouflaged) {
+                slandererCount--;
+                defensivePoliticianPower += Math.max(slandererInfluences[j] - 10, 0);
+                slandererIds[j] = 0;
+            }
         }
+        slandererUpdate = round;
+    }
 
-        private boolean embezzling() {
-            return type == RobotType.SLANDERER && (rc.getRoundNum() - spawnRound) < GameConstants.EMBEZZLE_NUM_ROUNDS;
+    /**
+     * Subtracts the unit in row [i], which died, from the running totals as it is in [round].
+     */
+    private void subtract(int i, int round) {
+        final UnitRegistry units = this.units;
+        final int age = round - units.spawnRounds[i];
+        int type = units.types[i];
+        // the type column is only updated when the unit is read
+        if (type == SLANDERER && age >= GameConstants.CAMOUFLAGE_NUM_ROUNDS)
+            type = POLITICIAN;
+
+        if (type == POLITICIAN) {
+            final int power = Math.max(units.influences[i] - 10, 0);
+            if (units.politicianTypes[i] == DEFENSIVE)
+                defensivePoliticianPower -= power;
+            else if (units.politicianTypes[i] == OFFENSIVE)
+                offensivePoliticianPower -= power;
+        } else if (type == SLANDERER) {
+            slandererCount--;
+            if (age < GameConstants.EMBEZZLE_NUM_ROUNDS)
+                slandererIncome -= slandererEmbezzle(units.influences[i]);
+            // the slanderer has no transitions left
+            final int j = units.spawnRounds[i] & SLANDERER_MASK;
+            if (slandererIds[j] == units.ids[i])
+                slandererIds[j] = 0;
+        } else if (type == MUCKRAKER) {
+            muckrakerCount--;
         }
-
     }
 
 }
@@ -0,0 +1,161 @@
+package mars.robot.ec;
+
+import battlecode.common.MapLocation;
+import mars.robot.Robot;
+import mars.util.LoopBound;
+
+/**
+ * Incremental deduction of the symmetry of the map from the known ECs and borders. The symmetries that are still
+ * possible are kept in a mask, and every EC that is learned is checked once against them, so the cost per new EC is
+ * constant. Knowing a new pair of borders makes the ECs be checked again.
+ * <p>
+ * A symmetry is ruled out if it mirrors a known EC onto a location within the sensor range of this EC without an EC, or
+ * if this EC is a starting EC and it is mirrored onto itself or onto a neutral EC, since the starting ECs of the two
+ * teams mirror each other. The symmetry is known as soon as one possibility is left and the borders that it needs are
+ * known, which can be before all borders are known. As a fallback, a symmetry that mirrors a known EC onto another
+ * known EC is taken once all borders are known.
+ */
+final strictfp class SymmetryTracker {
+
+    // symmetries, as bits of the mask
+    static final int
+            VERTICAL = 1,
+            HORIZONTAL = 2,
+            ROTATIONAL = 4,
+            ALL = VERTICAL | HORIZONTAL | ROTATIONAL;
+
+    private final EcTable ecs;
+    private final int x, y;
+    private final int sensorRadiusSquared;
+    // entry of this EC if it is a starting EC, or -1
+    private final int startingEntry;
+
+    /**
+     * Symmetries that are still possible.
+     */
+    int possible = ALL;
+    /**
+     * Symmetries that mirror a known EC onto another known EC.
+     */
+    private int supported;
+    /**
+     * The symmetry of the map or 0 if it is not known yet.
+     */
+    int symmetry;
+    // lowX + uppX and lowY + uppY or 0 if not known, coordinates are at least 10000
+    private int sumX, sumY;
+    // number of entries of the table that have been checked
+    private int checked;
+
+    SymmetryTracker(EcTable ecs, MapLocation location, int sensorRadiusSquared, int startingEntry) {
+        this.ecs = ecs;
+        x = location.x;
+        y = location.y;
+        this.sensorRadiusSquared = sensorRadiusSquared;
+        this.startingEntry = startingEntry;
+    }
+
+    /**
+     * Sets the sum of the lower and upper border in x and y direction, where 0 means unknown. New sums make all ECs be
+     * checked again.
+     */
+    void setSums(int sumX, int sumY) {
+        if (sumX != this.sumX || sumY != this.sumY) {
+            this.sumX = sumX;
+            this.sumY = sumY;
+            checked = 0;
+        }
+    }
+
+    /**
+     * Checks the ECs that have been added since the last update. Returns true if this update found the symmetry.
+     */
+    @LoopBound(LoopBound.ECS)
+    boolean update() {
+        if (symmetry != 0)
+            return false;
+        final EcTable ecs = this.ecs;
+        for (; checked < ecs.size; checked++)
+            check(checked);
+        // the state of the mirror image of this EC may have changed
+        if (startingEntry >= 0)
+            check(startingEntry);
+
+        if (possible == 0) {
+            // the evidence contradicts itself, so assume nothing
+            possible = ALL;
+        }
+        if (Integer.bitCount(possible) == 1 && canMirror(possible)) {
+            symmetry = possible;
+        } else if (sumX != 0 && sumY != 0 && (supported & possible) != 0) {
+            // in the order vertical, horizontal, rotational
+            symmetry = Integer.lowestOneBit(supported & possible);
+        }
+        return symmetry != 0;
+    }
+
+    /**
+     * Restricts the possible symmetries to [symmetry], which another EC has deduced, unless that contradicts what this EC
+     * has seen itself.
+     */
+    void assume(int symmetry) {
+        final int restricted = possible & symmetry;
+        if (restricted != 0)
+            possible = restricted;
+    }
+
+    /**
+     * Returns the code of the known symmetry in F_M_EC_SYMMETRY: 0 if it is unknown, 1 vertical, 2 horizontal or 3
+     * rotational.
+     */
+    int code() {
+        return symmetry == ROTATIONAL ? 3 : symmetry;
+    }
+
+    /**
+     * Returns the symmetry of [code], see code().
+     */
+    static int fromCode(int code) {
+        return code == 3 ? ROTATIONAL : code;
+    }
+
+    /**
+     * Returns the mirror image of [location] under the known symmetry.
+     */
+    MapLocation mirror(MapLocation location) {
+        return new MapLocation(mirrorX(symmetry, location.x), mirrorY(symmetry, location.y));
+    }
+
+    private boolean canMirror(int symmetry) {
+        return (symmetry == VERTICAL || sumX != 0) && (symmetry == HORIZONTAL || sumY != 0);
+    }
+
+    private int mirrorX(int symmetry, int x) {
+        return symmetry == VERTICAL ? x : sumX - x;
+    }
+
+    private int mirrorY(int symmetry, int y) {
+        return symmetry == HORIZONTAL ? y : sumY - y;
+    }
+
+    /**
+     * Rules out the symmetries that contradict the EC in entry [i] and records the ones that it supports.
+     */
+    @LoopBound(3)
+    private void check(int i) {
+        final MapLocation location = ecs.locations[i];
+        for (int symmetry = VERTICAL; symmetry <= ROTATIONAL; symmetry <<= 1) {
+            if ((possible & symmetry) == 0 || !canMirror(symmetry))
+                continue;
+            final int mx = mirrorX(symmetry, location.x), my = mirrorY(symmetry, location.y);
+            final int j = ecs.indexOf(Robot.encodeLocation(mx, my));
+            final int dx = mx - x, dy = my - y;
+            if (j < 0 ? dx * dx + dy * dy <= sensorRadiusSquared
+                    : i == startingEntry && (j == i || ecs.states[j] == EcTable.NEUTRAL))
+                possible &= ~symmetry;
+            else if (j >= 0 && j != i)
+                supported |= symmetry;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package mars.robot.ec;
+
+import java.util.Arrays;
+
+/**
+ * Array backed registry of the units spawned by an EC. Every unit occupies one row of the parallel columns, rows
+ * [0, size) are in use. Removing a row moves the last row into its place, so the order of the rows is not stable.
+ * <p>
+ * The registry also keeps a cursor for scans that are spread out over multiple turns.
+ * <p>
+ * Every unit is in a polling tier. The rows of the units in the HOT and WARM tier are kept in a list per tier, so that
+ * they can be polled more often than the full scan visits them, without iterating over the cold units.
+ */
+final strictfp class UnitRegistry {
+
+    /**
+     * Value of the politicianType column for units that are not politicians.
+     */
+    static final int NO_POLITICIAN_TYPE = -1;
+
+    /**
+     * Value of the ecCode column if the unit has not communicated an EC location yet.
+     */
+    static final int NO_EC_CODE = -1;
+
+    /**
+     * Value of the type column for units that died, which stay in the registry until a scan removes them.
+     */
+    static final int DEAD = -1;
+
+    // polling tiers
+    static final int
+            COLD = 0,
+            WARM = 1,
+            HOT = 2;
+
+    int size;
+    /**
+     * Index of the next row to be scanned.
+     */
+    int cursor;
+
+    int[] ids;
+    int[] influences;
+    int[] spawnRounds;
+    /**
+     * Ordinal of the RobotType of the unit or DEAD.
+     */
+    int[] types;
+    /**
+     * Ordinal of the Politician.Type of the unit or NO_POLITICIAN_TYPE.
+     */
+    int[] politicianTypes;
+    /**
+     * Encoded location of the latest EC that was communicated by the unit or NO_EC_CODE.
+     */
+    int[] ecCodes;
+    /**
+     * Round in which the flag of the unit was last read.
+     */
+    int[] lastReads;
+    /**
+     * Flag of the unit when it was last read.
+     */
+    int[] lastFlags;
+    /**
+     * Round in which the flag of the unit last showed activity, or its spawn round.
+     */
+    int[] activeRounds;
+    int[] tiers;
+    /**
+     * Index of the row in the list of its tier.
+     */
+    int[] tierIndices;
+    /**
+     * tierRows[tier] lists the rows in [tier] in its first tierSizes[tier] elements, there is no list of COLD rows.
+     */
+    final int[][] tierRows = new int[3][];
+    final int[] tierSizes = new int[3];
+
+    UnitRegistry(int capacity) {
+        ids = new int[capacity];
+        influences = new int[capacity];
+        spawnRounds = new int[capacity];
+        types = new int[capacity];
+        politicianTypes = new int[capacity];
+        ecCodes = new int[capacity];
+        lastReads = new int[capacity];
+        lastFlags = new int[capacity];
+        activeRounds = new int[capacity];
+        tiers = new int[capacity];
+        tierIndices = new int[capacity];
+        tierRows[WARM] = new int[capacity];
+        tierRows[HOT] = new int[capacity];
+    }
+
+    /**
+     * Adds a row for a unit and returns its index.
+     */
+    int add(int id, int influence, int spawnRound, int type, int politicianType) {
+        if (size == ids.length)
+            grow();
+        int i = size++;
+        ids[i] = id;
+        influences[i] = influence;
+        spawnRounds[i] = spawnRound;
+        types[i] = type;
+        politicianTypes[i] = politicianType;
+        ecCodes[i] = NO_EC_CODE;
+        lastReads[i] = spawnRound;
+        lastFlags[i] = 0;
+        activeRounds[i] = spawnRound;
+        tiers[i] = COLD;
+        return i;
+    }
+
+    /**
+     * Removes row [i] by moving the last row into its place. The cursor is not changed, so a scan that removes the row
+     * at the cursor should not advance it. A scan over a tier list should go backwards, so that the row that is moved
+     * in the list has been visited already.
+     */
+    void remove(int i) {
+        if (tiers[i] != COLD)
+            unlist(i);
+        int last = --size;
+        if (i != last) {
+            ids[i] = ids[last];
+            influences[i] = influences[last];
+            spawnRounds[i] = spawnRounds[last];
+            types[i] = types[last];
+            politicianTypes[i] = politicianTypes[last];
+            ecCodes[i] = ecCodes[last];
+            lastReads[i] = lastReads[last];
+            lastFlags[i] = lastFlags[last];
+            activeRounds[i] = activeRounds[last];
+            tiers[i] = tiers[last];
+            tierIndices[i] = tierIndices[last];
+            if (tiers[i] != COLD)
+                tierRows[tiers[i]][tierIndices[i]] = i;
+        }
+    }
+
+    /**
+     * Moves row [i] to [tier].
+     */
+    void setTier(int i, int tier) {
+        if (tiers[i] == tier)
+            return;
+        if (tiers[i] != COLD)
+            unlist(i);
+        tiers[i] = tier;
+        if (tier != COLD) {
+            int n = tierSizes[tier]++;
+            tierRows[tier][n] = i;
+            tierIndices[i] = n;
+        }
+    }
+
+    /**
+     * Removes row [i] from the list of its tier by moving the last row of the list into its place.
+     */
+    private void unlist(int i) {
+        int[] rows = tierRows[tiers[i]];
+        int n = --tierSizes[tiers[i]];
+        int moved = rows[n];
+        rows[tierIndices[i]] = moved;
+        tierIndices[moved] = tierIndices[i];
+    }
+
+    private void grow() {
+        int capacity = 2 * ids.length;
+        ids = Arrays.copyOf(ids, capacity);
+        influences = Arrays.copyOf(influences, capacity);
+        spawnRounds = Arrays.copyOf(spawnRounds, capacity);
+        types = Arrays.copyOf(types, capacity);
+        politicianTypes = Arrays.copyOf(politicianTypes, capacity);
+        ecCodes = Arrays.copyOf(ecCodes, capacity);
+        lastReads = Arrays.copyOf(lastReads, capacity);
+        lastFlags = Arrays.copyOf(lastFlags, capacity);
+        activeRounds = Arrays.copyOf(activeRounds, capacity);
+        tiers = Arrays.copyOf(tiers, capacity);
+        tierIndices = Arrays.copyOf(tierIndices, capacity);
+        tierRows[WARM] = Arrays.copyOf(tierRows[WARM], capacity);
+        tierRows[HOT] = Arrays.copyOf(tierRows[HOT], capacity);
+    }
+
+}
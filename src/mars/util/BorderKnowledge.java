@@ -0,0 +1,124 @@
+package mars.util;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+
+/**
+ * The borders of the map that a unit knows, whether it sensed them itself or its spawn broadcast them. A border is the
+ * last coordinate on the map in the direction of its side, so queries do not have to sense the map again.
+ * <p>
+ * Sides are numbered in the order of the border types of the flags: left, right, bottom and top.
+ */
+public final strictfp class BorderKnowledge {
+
+    public static final int LEFT = 0, RIGHT = 1, BOTTOM = 2, TOP = 3;
+
+    /**
+     * Coordinate of a border that is not known, map coordinates are at least 10000.
+     */
+    public static final int UNKNOWN = -1;
+
+    // direction, offset and axis of every side
+    private static final Direction[] DIRECTIONS = {Direction.WEST, Direction.EAST, Direction.SOUTH, Direction.NORTH};
+    private static final int[] DX = {-1, 1, 0, 0}, DY = {0, 0, -1, 1};
+
+    private final int[] coordinates = {UNKNOWN, UNKNOWN, UNKNOWN, UNKNOWN};
+
+    /**
+     * Returns whether [side] is a left or right border, which is a value of x.
+     */
+    public static boolean isVertical(int side) {
+        return side < BOTTOM;
+    }
+
+    public static Direction direction(int side) {
+        return DIRECTIONS[side];
+    }
+
+    public static int dx(int side) {
+        return DX[side];
+    }
+
+    public static int dy(int side) {
+        return DY[side];
+    }
+
+    public boolean isKnown(int side) {
+        return coordinates[side] != UNKNOWN;
+    }
+
+    /**
+     * Returns the coordinate of the border on [side] or UNKNOWN.
+     */
+    public int get(int side) {
+        return coordinates[side];
+    }
+
+    /**
+     * Stores the border on [side] at [coordinate]. Returns true if it was not known yet.
+     */
+    public boolean set(int side, int coordinate) {
+        if (coordinates[side] != UNKNOWN)
+            return false;
+        coordinates[side] = coordinate;
+        return true;
+    }
+
+    /**
+     * Returns the number of tiles between ([x], [y]) and the known border on [side], or Integer.MAX_VALUE if it is not
+     * known.
+     */
+    public int distance(int side, int x, int y) {
+        final int c = coordinates[side];
+        if (c == UNKNOWN)
+            return Integer.MAX_VALUE;
+        return side == LEFT ? x - c : side == RIGHT ? c - x : side == BOTTOM ? y - c : c - y;
+    }
+
+    /**
+     * Returns the side of the known border nearest to ([x], [y]), or -1 if no border is known.
+     */
+    public int nearestSide(int x, int y) {
+        int nearest = -1, min = Integer.MAX_VALUE;
+        // unrolled, this is called every turn
+        int d = distance(LEFT, x, y);
+        if (d < min) {
+            nearest = LEFT;
+            min = d;
+        }
+        d = distance(RIGHT, x, y);
+        if (d < min) {
+            nearest = RIGHT;
+            min = d;
+        }
+        d = distance(BOTTOM, x, y);
+        if (d < min) {
+            nearest = BOTTOM;
+            min = d;
+        }
+        d = distance(TOP, x, y);
+        if (d < min)
+            nearest = TOP;
+        return nearest;
+    }
+
+    /**
+     * Returns the number of tiles between ([x], [y]) and the nearest known border, or Integer.MAX_VALUE if no border is
+     * known.
+     */
+    public int distanceToEdge(int x, int y) {
+        final int side = nearestSide(x, y);
+        return side < 0 ? Integer.MAX_VALUE : distance(side, x, y);
+    }
+
+    /**
+     * Returns the tile of the nearest known border in line with [location], or null if no border is known.
+     */
+    public MapLocation nearest(MapLocation location) {
+        final int side = nearestSide(location.x, location.y);
+        if (side < 0)
+            return null;
+        return isVertical(side) ? new MapLocation(coordinates[side], location.y) : new MapLocation(location.x, coordinates[side]);
+    }
+
+}
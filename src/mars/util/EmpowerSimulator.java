@@ -0,0 +1,148 @@
+package mars.util;
+
+import battlecode.common.Clock;
+import battlecode.common.GameConstants;
+import battlecode.common.RobotInfo;
+import battlecode.common.RobotType;
+import battlecode.common.Team;
+
+/**
+ * Simulates the outcome of empowering with every radius at which there are robots and picks the radius with the most
+ * value.
+ * <p>
+ * Empowering with radius r taxes the conviction by GameConstants.EMPOWER_TAX and splits the rest evenly among the n
+ * robots within r, times the empower factor. The remainder of the split gives some robots 1 extra conviction, which is
+ * ignored here, so the simulated share is a lower bound of what every robot receives. The value of an outcome is the
+ * conviction of the enemies that are converted or neutralized, plus the damage done to enemy and neutral ECs, plus half
+ * of the healing of friendly robots, which is capped at their influence except for ECs.
+ */
+public final strictfp class EmpowerSimulator {
+
+    /**
+     * Minimum value per influence spent for empowering to be worth it.
+     */
+    public static final double MIN_EFFICIENCY = 0.2;
+
+    /**
+     * Radius returned by bestRadius() if empowering is not worth it.
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Largest radius that bestRadius() evaluates, the action radius of a politician.
+     */
+    public static final int MAX_RADIUS_SQUARED = 9;
+
+    // number of distinct squared distances up to MAX_RADIUS_SQUARED: 1, 2, 4, 5, 8 and 9
+    private static final int MAX_RADII = 6;
+
+    // outcome of the best radius of the last call of bestRadius(), also kept if it was not worth it
+    public int radius, value, converted, ecDamage, healing;
+
+    private final int bytecodeCap;
+
+    // the radii at which there are robots in ascending order, with the number of robots within and the share of each
+    // of them, and the running totals of the outcome of empowering with them
+    private final int[] radii = new int[MAX_RADII], ends = new int[MAX_RADII], shares = new int[MAX_RADII];
+    private final int[] enemyValues = new int[MAX_RADII], convertedCounts = new int[MAX_RADII],
+            ecDamages = new int[MAX_RADII], healings = new int[MAX_RADII];
+
+    /**
+     * Creates a simulator that stops evaluating robots when fewer than [bytecodeCap] bytecodes are left.
+     */
+    public EmpowerSimulator(int bytecodeCap) {
+        this.bytecodeCap = bytecodeCap;
+    }
+
+    /**
+     * Returns the best radius to empower on with [conviction] and [empowerFactor] given the robots in [sensor], or NONE if
+     * empowering with any radius up to [maxRadiusSquared], at most MAX_RADIUS_SQUARED, is not worth it. Enemy politicians with at most
+     * EMPOWER_TAX conviction are harmless, so they count as neutralized when their conviction drops to that amount.
+     * <p>
+     * The robots are visited once in order of distance, adding their outcome to the totals of every radius that
+     * includes them. If the bytecodes run out, only the radii that include no robot that was skipped are evaluated.
+     */
+    @LoopBound({MAX_RADIUS_SQUARED, LoopBound.ROBOTS, MAX_RADII, MAX_RADII, MAX_RADII, MAX_RADII})
+    public int bestRadius(SensorSnapshot sensor, Team ally, int conviction, double empowerFactor, int maxRadiusSquared) {
+        radius = NONE;
+        value = converted = ecDamage = healing = 0;
+        final int power = conviction - GameConstants.EMPOWER_TAX;
+        if (power <= 0)
+            return NONE;
+
+        final int[] starts = sensor.distanceStarts();
+        final int[] radii = this.radii, ends = this.ends, shares = this.shares;
+        final int[] enemyValues = this.enemyValues, convertedCounts = this.convertedCounts,
+                ecDamages = this.ecDamages, healings = this.healings;
+        int n = 0;
+        for (int r = 1; r <= maxRadiusSquared; r++) {
+            final int end = starts[r + 1];
+            if (end == starts[r])
+                continue;
+            radii[n] = r;
+            ends[n] = end;
+            shares[n] = (int) (power * empowerFactor / end);
+            enemyValues[n] = convertedCounts[n] = ecDamages[n] = healings[n] = 0;
+            n++;
+        }
+        if (n == 0)
+            return NONE;
+
+        final RobotInfo[] robots = sensor.robots;
+        final int[] byDistance = sensor.byDistance();
+        final int end = ends[n - 1];
+        // index of the smallest radius that includes robot j, and the number of radii that include all robots visited
+        int first = 0, complete = n;
+        for (int j = 0; j < end; j++) {
+            if (ends[first] == j)
+                first++;
+            if (Clock.getBytecodesLeft() < bytecodeCap) {
+                complete = first;
+                break;
+            }
+            final RobotInfo robot = robots[byDistance[j]];
+            final int c = robot.conviction;
+            if (robot.team == ally) {
+                final int room = robot.type == RobotType.ENLIGHTENMENT_CENTER ? Integer.MAX_VALUE
+                        : Math.max(robot.influence - c, 0);
+                for (int i = first; i < n; i++)
+                    healings[i] += Math.min(shares[i], room);
+            } else if (robot.type == RobotType.ENLIGHTENMENT_CENTER) {
+                // a captured EC keeps the rest of the share as its influence, so the whole share counts
+                for (int i = first; i < n; i++) {
+                    enemyValues[i] += shares[i];
+                    ecDamages[i] += Math.min(shares[i], c);
+                }
+            } else {
+                // smallest share that converts or neutralizes the robot
+                final int needed = robot.type != RobotType.POLITICIAN ? c + 1
+                        : c > GameConstants.EMPOWER_TAX ? c - GameConstants.EMPOWER_TAX : Integer.MAX_VALUE;
+                for (int i = first; i < n; i++) {
+                    if (shares[i] >= needed) {
+                        convertedCounts[i]++;
+                        enemyValues[i] += c;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < complete; i++) {
+            // healing alone is no reason to empower
+            if (enemyValues[i] == 0)
+                continue;
+            final int value = enemyValues[i] + healings[i] / 2;
+            if (value > this.value) {
+                this.radius = radii[i];
+                this.value = value;
+                this.converted = convertedCounts[i];
+                this.ecDamage = ecDamages[i];
+                this.healing = healings[i];
+            }
+        }
+
+        if (value < MIN_EFFICIENCY * conviction)
+            radius = NONE;
+        return radius;
+    }
+
+}
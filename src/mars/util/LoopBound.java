@@ -0,0 +1,42 @@
+package mars.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the number of iterations per turn of the loops of a method for the static bytecode report, one bound per
+ * loop in the order in which the loops start in the method, or a single bound for all of them. The loops of methods
+ * without bounds count as bytecodeLoopBound iterations.
+ * <p>
+ * The constants are the assumptions of the bounds that are shared by several methods. A loop that stops when too few
+ * bytecodes are left is bounded by what fits in a turn.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+public @interface LoopBound {
+
+    /**
+     * Robots in sensor range.
+     */
+    int ROBOTS = 24;
+
+    /**
+     * Known ECs, which covers a map with 12 ECs and the mirror images of what is not seen yet.
+     */
+    int ECS = 12;
+
+    /**
+     * Friendly ECs whose flags an EC reads.
+     */
+    int PEERS = 4;
+
+    /**
+     * Units of an EC that are polled in a turn.
+     */
+    int POLLED_UNITS = 32;
+
+    int[] value();
+
+}
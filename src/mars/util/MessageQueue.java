@@ -0,0 +1,110 @@
+package mars.util;
+
+/**
+ * Bounded queue of int messages that are shown one at a time, where the current message only changes when advance()
+ * is called. Pending messages are stored in a ring buffer.
+ * <p>
+ * Before the first pending message becomes current, the queue can require a number of handshake advances during which
+ * no message is shown. This is used to synchronize with a reader that is only guaranteed to have seen a message after
+ * two advances.
+ */
+public final strictfp class MessageQueue {
+
+    /**
+     * Maximum number of pending messages, a power of 2.
+     */
+    public static final int CAPACITY = 32;
+
+    /**
+     * Value of current() when no message is shown.
+     */
+    public static final int NONE = -1;
+
+    private static final int MASK = CAPACITY - 1;
+
+    private final int[] buffer = new int[CAPACITY];
+    private int head;
+    private int size;
+    private int handshake;
+    private int current = NONE;
+
+    /**
+     * Removes all messages and requires [handshake] advances before pending messages are shown.
+     */
+    public void reset(int handshake) {
+        head = size = 0;
+        this.handshake = handshake;
+        current = NONE;
+    }
+
+    /**
+     * Returns the message that is currently shown or NONE.
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     * Returns the number of messages that can be added before the queue is full.
+     */
+    public int space() {
+        return CAPACITY - size;
+    }
+
+    /**
+     * Replaces the current message by the next pending message or NONE if a handshake is in progress or no messages are
+     * pending.
+     */
+    public void advance() {
+        if (handshake > 0) {
+            handshake--;
+            current = NONE;
+        } else if (size > 0) {
+            current = buffer[head];
+            head = (head + 1) & MASK;
+            size--;
+        } else {
+            current = NONE;
+        }
+    }
+
+    /**
+     * Adds [message] to the end of the queue, unless it is already pending, in which case it is coalesced with that
+     * message. Returns false if the message could not be added because the queue is full.
+     */
+    @LoopBound(CAPACITY)
+    public boolean offer(int message) {
+        for (int i = 0; i < size; i++)
+            if (buffer[(head + i) & MASK] == message)
+                return true;
+        if (size == CAPACITY)
+            return false;
+        buffer[(head + size) & MASK] = message;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes the pending messages m for which (m & mask) == (key & mask). If the message directly after a removed
+     * message matches [followerKey] on [followerMask], it is removed as well. This is used to drop pending messages that
+     * have been superseded by newer information.
+     */
+    @LoopBound(CAPACITY)
+    public void supersede(int key, int mask, int followerKey, int followerMask) {
+        key &= mask;
+        followerKey &= followerMask;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int message = buffer[(head + i) & MASK];
+            if ((message & mask) == key) {
+                if (i + 1 < size && (buffer[(head + i + 1) & MASK] & followerMask) == followerKey)
+                    i++;
+                continue;
+            }
+            buffer[(head + kept) & MASK] = message;
+            kept++;
+        }
+        size = kept;
+    }
+
+}
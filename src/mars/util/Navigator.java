@@ -0,0 +1,231 @@
+package mars.util;
+
+import battlecode.common.*;
+import mars.gen.NavigationRings;
+
+/**
+ * Moves a unit towards a target along the path with the lowest cooldown, as far as it can be seen.
+ * <p>
+ * A plan relaxes the tiles of a square window around the unit ring by ring, from the inside out, where entering a tile
+ * costs 10 / passability (the cooldown in tenths of turns). Every tile takes the cheapest of its neighbors that are in an
+ * inner ring or earlier in its own ring, so a single pass finds paths that do not have to move back inwards. The rings
+ * are unrolled in the generated mars.gen.NavigationRings. The local
+ * goal is the target if it is in the window, or else the tile of the outer ring that minimizes the cost of reaching it
+ * plus a lower bound of the cost from there to the target. The path to it is followed in the next turns while the
+ * target does not change. Tiles that are not in the terrain cache are assumed to have an average cost.
+ * <p>
+ * Planning stops after the current ring when fewer than the bytecode cap are left. If no tile brings the unit closer to
+ * the target or the next step is blocked, the unit falls back to bug navigation, following obstacles on its left hand.
+ */
+public final strictfp class Navigator {
+
+    public static final int RADIUS = NavigationRings.RADIUS;
+
+    private static final int WIDTH = NavigationRings.WIDTH;
+    private static final int SIZE = WIDTH * WIDTH;
+    private static final int CENTER = NavigationRings.CENTER;
+
+    private static final int MIN_COST = 10, INFINITY = NavigationRings.INFINITY;
+
+    // offsets of the tiles of the window by index
+    private static final int[] DX = new int[SIZE], DY = new int[SIZE];
+    // indices of the tiles other than the center in ring order and the end of every ring in ORDER
+    private static final int[] ORDER = new int[SIZE - 1];
+    private static final int[] RING_ENDS = new int[RADIUS + 1];
+    // DIRECTIONS[(dx + 1) * 3 + dy + 1] is the direction of offset (dx, dy)
+    private static final Direction[] DIRECTIONS = {
+            Direction.SOUTHWEST, Direction.WEST, Direction.NORTHWEST,
+            Direction.SOUTH, Direction.CENTER, Direction.NORTH,
+            Direction.SOUTHEAST, Direction.EAST, Direction.NORTHEAST
+    };
+
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            DX[i] = i / WIDTH - RADIUS;
+            DY[i] = i % WIDTH - RADIUS;
+        }
+
+        // walk around every ring, so consecutive tiles of a ring are neighbors
+        int n = 0;
+        for (int k = 1; k <= RADIUS; k++) {
+            int x = -k, y = -k;
+            for (int side = 0; side < 4; side++) {
+                final int sx = side == 0 ? 1 : side == 2 ? -1 : 0, sy = side == 1 ? 1 : side == 3 ? -1 : 0;
+                for (int step = 0; step < 2 * k; step++) {
+                    ORDER[n++] = (x + RADIUS) * WIDTH + y + RADIUS;
+                    x += sx;
+                    y += sy;
+                }
+            }
+            RING_ENDS[k] = n;
+        }
+    }
+
+    private final RobotController rc;
+    private final TerrainCache terrain;
+    private final SensorSnapshot sensor;
+    private final int bytecodeCap;
+
+    // search state
+    private final int[] costs = new int[SIZE];
+    private final int[] parents = new int[SIZE];
+    // tiles that are occupied in the current plan have the plan number as stamp
+    private final int[] occupied = new int[SIZE];
+    private int plans;
+
+    // cached plan: the path from pathStart to the local goal for target
+    private MapLocation target;
+    private MapLocation pathStart;
+    private final Direction[] path = new Direction[SIZE];
+    private int pathIndex, pathLength;
+
+    // bug navigation state
+    private MapLocation bugTarget;
+    private Direction bugDirection;
+
+    /**
+     * Creates a navigator that stops planning when fewer than [bytecodeCap] bytecodes are left.
+     */
+    public Navigator(RobotController rc, TerrainCache terrain, SensorSnapshot sensor, int bytecodeCap) {
+        this.rc = rc;
+        this.terrain = terrain;
+        this.sensor = sensor;
+        this.bytecodeCap = bytecodeCap;
+    }
+
+    /**
+     * Moves one step towards [target] if the unit is ready. Returns true if the unit moved or is at the target.
+     */
+    public boolean move(MapLocation target) throws GameActionException {
+        final MapLocation location = rc.getLocation();
+        if (location.equals(target))
+            return true;
+        if (!rc.isReady())
+            return false;
+
+        if (!hasPlan(location, target))
+            plan(location, target);
+        if (pathIndex < pathLength) {
+            final Direction direction = path[pathIndex];
+            if (rc.canMove(direction)) {
+                rc.move(direction);
+                pathIndex++;
+                pathStart = location.add(direction);
+                bugDirection = null;
+                return true;
+            }
+            // replan next time, the step is blocked by a robot
+            pathLength = 0;
+        }
+        return bugMove(location, target);
+    }
+
+    /**
+     * Plans the path to the target of the last call of move() while the unit waits for its cooldown, so that move() can
+     * follow it right away. Returns false, since there is at most one plan per turn.
+     */
+    public boolean precompute() throws GameActionException {
+        final MapLocation location = rc.getLocation();
+        if (target != null && !rc.isReady() && !location.equals(target) && !hasPlan(location, target))
+            plan(location, target);
+        return false;
+    }
+
+    private boolean hasPlan(MapLocation location, MapLocation target) {
+        return target.equals(this.target) && location.equals(pathStart) && pathIndex < pathLength;
+    }
+
+    @LoopBound({LoopBound.ROBOTS, 8 * RADIUS, 2 * RADIUS, 2 * RADIUS})
+    private void plan(MapLocation location, MapLocation target) {
+        this.target = target;
+        pathStart = location;
+        pathIndex = pathLength = 0;
+
+        final int x = location.x, y = location.y;
+        final int[] costs = this.costs;
+        final int[] parents = this.parents;
+        final int[] occupied = this.occupied;
+        final int plan = ++plans;
+
+        // robots next to the unit block the first step, robots further away will probably have moved
+        final SensorSnapshot sensor = this.sensor;
+        for (int i = 0; i < sensor.size; i++) {
+            // the snapshot is taken at the start of the turn, so the unit may have moved since
+            final MapLocation other = sensor.robots[i].location;
+            final int dx = other.x - x, dy = other.y - y;
+            if (dx >= -1 && dx <= 1 && dy >= -1 && dy <= 1)
+                occupied[CENTER + dx * WIDTH + dy] = plan;
+        }
+
+        // relax the rings from the inside out, with straight-line code per ring
+        final byte[] tiles = terrain.tiles();
+        costs[CENTER] = 0;
+        final int rings = NavigationRings.relax(bytecodeCap, tiles, x, y, costs, parents, occupied, plan);
+
+        // the goal is the target if it is in the window, or else the tile in the outer ring that minimizes the cost
+        // to reach it plus the cost from there to the target, which is at least MIN_COST per step
+        final int tx = target.x - x, ty = target.y - y;
+        final int steps = Math.max(Math.abs(tx), Math.abs(ty));
+        int goal = CENTER;
+        if (steps <= rings) {
+            final int i = CENTER + tx * WIDTH + ty;
+            if (costs[i] < INFINITY)
+                goal = i;
+        }
+        if (goal == CENTER && rings > 0) {
+            int min = INFINITY, minDistance = Integer.MAX_VALUE;
+            for (int p = RING_ENDS[rings - 1]; p < RING_ENDS[rings]; p++) {
+                final int i = ORDER[p];
+                final int dx = tx - DX[i], dy = ty - DY[i];
+                final int remaining = Math.max(Math.abs(dx), Math.abs(dy));
+                if (remaining >= steps)
+                    continue;
+                final int score = costs[i] + MIN_COST * remaining;
+                // ties are broken by the straight line distance, so units do not zigzag on uniform terrain
+                if (score < min || score == min && dx * dx + dy * dy < minDistance) {
+                    min = score;
+                    minDistance = dx * dx + dy * dy;
+                    goal = i;
+                }
+            }
+        }
+
+        // store the path from the center to the goal
+        int length = 0;
+        for (int i = goal; i != CENTER; i = parents[i])
+            length++;
+        pathLength = length;
+        for (int i = goal; i != CENTER; i = parents[i]) {
+            final int parent = parents[i];
+            path[--length] = DIRECTIONS[(DX[i] - DX[parent] + 1) * 3 + DY[i] - DY[parent] + 1];
+        }
+    }
+
+    /**
+     * Moves towards the target if possible, or else follows the obstacle in front of the unit on its left hand.
+     */
+    @LoopBound(8)
+    private boolean bugMove(MapLocation location, MapLocation target) throws GameActionException {
+        if (!target.equals(bugTarget)) {
+            bugTarget = target;
+            bugDirection = null;
+        }
+        final Direction direct = location.directionTo(target);
+        if (rc.canMove(direct)) {
+            rc.move(direct);
+            bugDirection = null;
+            return true;
+        }
+        Direction direction = bugDirection == null ? direct : bugDirection.rotateLeft().rotateLeft();
+        for (int i = 0; i < 8; i++) {
+            if (rc.canMove(direction)) {
+                rc.move(direction);
+                bugDirection = direction;
+                return true;
+            }
+            direction = direction.rotateRight();
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,135 @@
+package mars.util;
+
+/**
+ * Accumulates the repulsion of a set of points on the 9 tiles a robot can move to. The repulsion of a point on a tile
+ * is the inverse of their squared distance, in fixed point. Scores are indexed like Robot.ALL_DIRECTIONS, i.e. N, NE, E,
+ * SE, S, SW, W, NW and CENTER.
+ */
+public final strictfp class PotentialField {
+
+    // fixed point value of 1
+    private static final int ONE = 1 << 16;
+    // score of a tile that contains a repeller, large enough to exceed all finite scores
+    private static final int INFINITY = 1 << 22;
+
+    // offsets of repellers relative to the robot that are covered by the lookup table, which covers the sensor range of all units
+    private static final int RANGE = 5;
+    // width of the lookup table, which also includes the offsets of the directions
+    private static final int WIDTH = 2 * RANGE + 3;
+    private static final int CENTER = (RANGE + 1) * WIDTH + (RANGE + 1);
+
+    /**
+     * INVERSE[CENTER + dx * WIDTH + dy] is the fixed point inverse of dx * dx + dy * dy.
+     */
+    private static final int[] INVERSE = new int[WIDTH * WIDTH];
+
+    static {
+        for (int dx = -RANGE - 1; dx <= RANGE + 1; dx++)
+            for (int dy = -RANGE - 1; dy <= RANGE + 1; dy++)
+                INVERSE[CENTER + dx * WIDTH + dy] = inverse(dx * dx + dy * dy);
+    }
+
+    private int n, ne, e, se, s, sw, w, nw, c;
+
+    private static int inverse(int d2) {
+        return d2 == 0 ? INFINITY : ONE / d2;
+    }
+
+    /**
+     * Removes all repellers.
+     */
+    public void reset() {
+        n = ne = e = se = s = sw = w = nw = c = 0;
+    }
+
+    /**
+     * Adds a repeller at offset (dx, dy) of the robot.
+     */
+    public void add(int dx, int dy) {
+        if (dx >= -RANGE && dx <= RANGE && dy >= -RANGE && dy <= RANGE) {
+            final int[] inverse = INVERSE;
+            // the distance from (x, y) to the repeller is the distance of (dx - x, dy - y)
+            final int i = CENTER + dx * WIDTH + dy;
+            n += inverse[i - 1];
+            ne += inverse[i - WIDTH - 1];
+            e += inverse[i - WIDTH];
+            se += inverse[i - WIDTH + 1];
+            s += inverse[i + 1];
+            sw += inverse[i + WIDTH + 1];
+            w += inverse[i + WIDTH];
+            nw += inverse[i + WIDTH - 1];
+            c += inverse[i];
+        } else {
+            n += inverse(square(dx) + square(dy - 1));
+            ne += inverse(square(dx - 1) + square(dy - 1));
+            e += inverse(square(dx - 1) + square(dy));
+            se += inverse(square(dx - 1) + square(dy + 1));
+            s += inverse(square(dx) + square(dy + 1));
+            sw += inverse(square(dx + 1) + square(dy + 1));
+            w += inverse(square(dx + 1) + square(dy));
+            nw += inverse(square(dx + 1) + square(dy - 1));
+            c += inverse(square(dx) + square(dy));
+        }
+    }
+
+    /**
+     * Adds a repeller that is always at horizontal offset dx of the robot and at the same y coordinate, like a
+     * vertical border of the map.
+     */
+    public void addVerticalLine(int dx) {
+        // only the horizontal offset depends on the direction, the vertical one is 0 or 1
+        final int west = square(dx + 1), middle = square(dx), east = square(dx - 1);
+        final int westStraight = inverse(west), westDiagonal = inverse(west + 1);
+        final int eastStraight = inverse(east), eastDiagonal = inverse(east + 1);
+        n += inverse(middle + 1);
+        ne += eastDiagonal;
+        e += eastStraight;
+        se += eastDiagonal;
+        s += inverse(middle + 1);
+        sw += westDiagonal;
+        w += westStraight;
+        nw += westDiagonal;
+        c += inverse(middle);
+    }
+
+    /**
+     * Adds a repeller that is always at vertical offset dy of the robot and at the same x coordinate, like a horizontal
+     * border of the map.
+     */
+    public void addHorizontalLine(int dy) {
+        final int south = square(dy + 1), middle = square(dy), north = square(dy - 1);
+        final int southStraight = inverse(south), southDiagonal = inverse(south + 1);
+        final int northStraight = inverse(north), northDiagonal = inverse(north + 1);
+        n += northStraight;
+        ne += northDiagonal;
+        e += inverse(middle + 1);
+        se += southDiagonal;
+        s += southStraight;
+        sw += southDiagonal;
+        w += inverse(middle + 1);
+        nw += northDiagonal;
+        c += inverse(middle);
+    }
+
+    /**
+     * Returns the index of the direction with the lowest score, preferring lower indices on ties.
+     */
+    public int best() {
+        int best = 0;
+        int min = n;
+        if (ne < min) { best = 1; min = ne; }
+        if (e < min) { best = 2; min = e; }
+        if (se < min) { best = 3; min = se; }
+        if (s < min) { best = 4; min = s; }
+        if (sw < min) { best = 5; min = sw; }
+        if (w < min) { best = 6; min = w; }
+        if (nw < min) { best = 7; min = nw; }
+        if (c < min) best = 8;
+        return best;
+    }
+
+    private static int square(int x) {
+        return x * x;
+    }
+
+}
@@ -0,0 +1,109 @@
+package mars.util;
+
+import battlecode.common.Clock;
+import battlecode.common.RobotController;
+
+import java.util.Arrays;
+
+/**
+ * Records bytecode usage of named phases of a robot turn. Samples are stored in fixed-size ring buffers, and a summary
+ * (min/mean/p95/max per phase) is printed every {@link #REPORT_INTERVAL} rounds.
+ * <p>
+ * Calls should be guarded by {@code if (PROFILE)}, so that the compiler strips them unless profiling is enabled.
+ */
+public final strictfp class Profiler {
+
+    /**
+     * Number of samples that are kept per phase.
+     */
+    public static final int WINDOW = 64;
+
+    /**
+     * Number of rounds between two reports.
+     */
+    public static final int REPORT_INTERVAL = 100;
+
+    private final RobotController rc;
+    private final int bytecodeLimit;
+    private final String[] phases;
+    // samples[phase][i % WINDOW] is the i-th sample of phase
+    private final int[][] samples;
+    // total number of samples recorded per phase
+    private final int[] counts;
+    private final int[] startBytecodes;
+    private final int[] startRounds;
+    private int overruns;
+    private int lastOverrunRound = -1;
+
+    public Profiler(RobotController rc, String[] phases) {
+        this.rc = rc;
+        this.phases = phases;
+        bytecodeLimit = rc.getType().bytecodeLimit;
+        samples = new int[phases.length][WINDOW];
+        counts = new int[phases.length];
+        startBytecodes = new int[phases.length];
+        startRounds = new int[phases.length];
+    }
+
+    /**
+     * Marks the start of [phase].
+     */
+    public void begin(int phase) {
+        startRounds[phase] = rc.getRoundNum();
+        startBytecodes[phase] = Clock.getBytecodeNum();
+    }
+
+    /**
+     * Marks the end of [phase] and records the bytecodes used since the matching begin(). If the phase was cut off by
+     * the end of the turn, the bytecodes of the skipped rounds are included.
+     */
+    public void end(int phase) {
+        int used = Clock.getBytecodeNum() - startBytecodes[phase]
+                + (rc.getRoundNum() - startRounds[phase]) * bytecodeLimit;
+        samples[phase][counts[phase] % WINDOW] = used;
+        counts[phase]++;
+    }
+
+    /**
+     * Should be called at the end of each turn with the round in which the turn started. Flags turns that ran over the
+     * bytecode limit and prints a report if one is due.
+     */
+    public void endTurn(int startRound) {
+        int round = rc.getRoundNum();
+        if (round != startRound) {
+            overruns++;
+            lastOverrunRound = startRound;
+            System.out.println("Bytecode overrun in round " + startRound + " (" + (round - startRound) + " rounds skipped)");
+        }
+        if (startRound % REPORT_INTERVAL == 0)
+            report();
+    }
+
+    /**
+     * Prints min/mean/p95/max of the samples in the window of each phase.
+     */
+    public void report() {
+        StringBuilder sb = new StringBuilder("Bytecode profile (round ").append(rc.getRoundNum())
+                .append(", overruns ").append(overruns);
+        if (lastOverrunRound >= 0)
+            sb.append(", last in round ").append(lastOverrunRound);
+        sb.append(')');
+        for (int phase = 0; phase < phases.length; phase++) {
+            int n = Math.min(counts[phase], WINDOW);
+            if (n == 0)
+                continue;
+            int[] sorted = Arrays.copyOf(samples[phase], n);
+            Arrays.sort(sorted);
+            long sum = 0;
+            for (int sample : sorted)
+                sum += sample;
+            sb.append("\n  ").append(phases[phase])
+                    .append(": min ").append(sorted[0])
+                    .append(", mean ").append(sum / n)
+                    .append(", p95 ").append(sorted[(n * 95 - 1) / 100])
+                    .append(", max ").append(sorted[n - 1]);
+        }
+        System.out.println(sb);
+    }
+
+}
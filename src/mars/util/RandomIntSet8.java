@@ -18,6 +18,7 @@ public final strictfp class RandomIntSet8 {
         return x;
     }
 
+    @LoopBound(N)
     public void reset() {
         for (int i = 0; i < N; i++) set[i] = i;
         n = N;
@@ -0,0 +1,72 @@
+package mars.util;
+
+import battlecode.common.Clock;
+import battlecode.common.GameActionException;
+
+/**
+ * Runs resumable computations in the bytecodes that are left over at the end of a turn. Each task is called repeatedly
+ * while it has work left for this turn and more than its watermark of bytecodes is left. Tasks with a higher priority
+ * are called first.
+ */
+public final strictfp class Scheduler {
+
+    public static final int MAX_TASKS = 8;
+
+    private final Task[] tasks = new Task[MAX_TASKS];
+    private final int[] priorities = new int[MAX_TASKS];
+    private final int[] watermarks = new int[MAX_TASKS];
+    // round in which the task indicated that it had no work left, or -1
+    private final int[] idleRounds = new int[MAX_TASKS];
+    private int size;
+
+    /**
+     * Registers a task that is only called if more than [watermark] bytecodes are left.
+     */
+    public void register(Task task, int priority, int watermark) {
+        // keep tasks sorted by descending priority, so the first eligible task is the one to run
+        int i = size++;
+        while (i > 0 && priorities[i - 1] < priority) {
+            tasks[i] = tasks[i - 1];
+            priorities[i] = priorities[i - 1];
+            watermarks[i] = watermarks[i - 1];
+            idleRounds[i] = idleRounds[i - 1];
+            i--;
+        }
+        tasks[i] = task;
+        priorities[i] = priority;
+        watermarks[i] = watermark;
+        idleRounds[i] = -1;
+    }
+
+    /**
+     * Calls tasks until all of them are idle for [round] or their watermarks are reached.
+     */
+    public void run(int round) throws GameActionException {
+        final Task[] tasks = this.tasks;
+        final int[] watermarks = this.watermarks;
+        final int[] idleRounds = this.idleRounds;
+        outer:
+        while (true) {
+            final int left = Clock.getBytecodesLeft();
+            for (int i = 0; i < size; i++) {
+                if (idleRounds[i] != round && watermarks[i] < left) {
+                    if (!tasks[i].step())
+                        idleRounds[i] = round;
+                    continue outer;
+                }
+            }
+            return;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        /**
+         * Performs a small, bounded amount of work. Returns false if there is no work left for this turn.
+         */
+        boolean step() throws GameActionException;
+
+    }
+
+}
@@ -0,0 +1,199 @@
+package mars.util;
+
+import battlecode.common.MapLocation;
+import battlecode.common.RobotController;
+import battlecode.common.RobotInfo;
+import battlecode.common.RobotType;
+import battlecode.common.Team;
+
+/**
+ * The robots in sensor range of a robot, sensed once per round. The distances of all robots are computed when sensing,
+ * grouping the robots by kind (team and type) or by distance is done lazily with a counting sort into preallocated
+ * arrays.
+ * <p>
+ * The robots with kind k are robots[byKind[j]] for kindStarts[k] <= j < kindStarts[k + 1], where k = kind(team, type).
+ * Likewise, the robots at distance squared d are robots[byDistance[j]] for distanceStarts[d] <= j < distanceStarts[d + 1].
+ */
+public final strictfp class SensorSnapshot {
+
+    /**
+     * Teams relative to the sensing robot.
+     */
+    public static final int ALLY = 0, ENEMY = 1, NEUTRAL = 2;
+
+    private static final int TYPES = RobotType.values().length;
+    private static final int KINDS = 3 * TYPES;
+
+    // keys of the largest counting sort, the distances in the sensor range of an EC
+    private static final int MAX_KEYS = 42;
+
+    private final RobotController rc;
+    private final Team ally;
+    private int round = -1;
+
+    /**
+     * Location of the robot when it sensed.
+     */
+    public MapLocation origin;
+    /**
+     * The sensed robots, the array can be longer than size.
+     */
+    public RobotInfo[] robots = new RobotInfo[0];
+    public int size;
+    /**
+     * distances[i] is the squared distance from origin to robots[i].
+     */
+    public int[] distances = new int[32];
+    /**
+     * kinds[i] is the kind of robots[i].
+     */
+    public int[] kinds = new int[32];
+    /**
+     * nearestDistances[team] is the squared distance to the nearest robot of team, or Integer.MAX_VALUE if there is none.
+     */
+    public final int[] nearestDistances = new int[3];
+
+    private boolean kindsSorted, distancesSorted;
+    private int[] byKind = new int[32];
+    private final int[] kindStarts = new int[KINDS + 1];
+    private int[] byDistance = new int[32];
+    private final int[] distanceStarts;
+
+    public SensorSnapshot(RobotController rc) {
+        this.rc = rc;
+        ally = rc.getTeam();
+        // robots are sensed at distances 0 up to and including the sensor radius
+        distanceStarts = new int[rc.getType().sensorRadiusSquared + 2];
+    }
+
+    /**
+     * Returns the kind of robots of [team] (ALLY, ENEMY or NEUTRAL) and [type].
+     */
+    public static int kind(int team, RobotType type) {
+        return team * TYPES + type.ordinal();
+    }
+
+    /**
+     * Senses the robots in range, unless that already happened in [round].
+     */
+    @LoopBound(LoopBound.ROBOTS)
+    public void update(int round) {
+        if (round == this.round)
+            return;
+        this.round = round;
+        kindsSorted = distancesSorted = false;
+
+        final MapLocation origin = this.origin = rc.getLocation();
+        final RobotInfo[] robots = this.robots = rc.senseNearbyRobots();
+        final int size = this.size = robots.length;
+        if (distances.length < size) {
+            int capacity = Math.max(size, 2 * distances.length);
+            distances = new int[capacity];
+            kinds = new int[capacity];
+            byKind = new int[capacity];
+            byDistance = new int[capacity];
+        }
+
+        final int[] distances = this.distances;
+        final int[] kinds = this.kinds;
+        final int[] nearestDistances = this.nearestDistances;
+        nearestDistances[ALLY] = nearestDistances[ENEMY] = nearestDistances[NEUTRAL] = Integer.MAX_VALUE;
+        final Team ally = this.ally;
+        for (int i = 0; i < size; i++) {
+            final RobotInfo robot = robots[i];
+            final int distance = distances[i] = origin.distanceSquaredTo(robot.location);
+            final int team = robot.team == ally ? ALLY : robot.team == Team.NEUTRAL ? NEUTRAL : ENEMY;
+            kinds[i] = team * TYPES + robot.type.ordinal();
+            if (distance < nearestDistances[team])
+                nearestDistances[team] = distance;
+        }
+    }
+
+    /**
+     * Returns the indices of the robots, sorted by kind.
+     */
+    public int[] byKind() {
+        if (!kindsSorted)
+            sortByKind();
+        return byKind;
+    }
+
+    /**
+     * Returns the start indices of the kinds in byKind(), including the end index of the last kind.
+     */
+    public int[] kindStarts() {
+        if (!kindsSorted)
+            sortByKind();
+        return kindStarts;
+    }
+
+    /**
+     * Returns the number of robots of [kind].
+     */
+    public int count(int kind) {
+        if (!kindsSorted)
+            sortByKind();
+        return kindStarts[kind + 1] - kindStarts[kind];
+    }
+
+    /**
+     * Returns the number of robots of [team], of any type.
+     */
+    public int teamCount(int team) {
+        if (!kindsSorted)
+            sortByKind();
+        return kindStarts[(team + 1) * TYPES] - kindStarts[team * TYPES];
+    }
+
+    /**
+     * Returns the indices of the robots, sorted by ascending distance.
+     */
+    public int[] byDistance() {
+        if (!distancesSorted)
+            sortByDistance();
+        return byDistance;
+    }
+
+    /**
+     * Returns the start indices of the distances in byDistance(), including the end index of the largest distance.
+     */
+    public int[] distanceStarts() {
+        if (!distancesSorted)
+            sortByDistance();
+        return distanceStarts;
+    }
+
+    private void sortByKind() {
+        kindsSorted = true;
+        countingSort(kinds, kindStarts, byKind);
+    }
+
+    private void sortByDistance() {
+        distancesSorted = true;
+        countingSort(distances, distanceStarts, byDistance);
+    }
+
+    /**
+     * Sorts the indices of the robots by [keys] into [sorted], where [starts] has one more element than there are keys.
+     */
+    @LoopBound({MAX_KEYS, LoopBound.ROBOTS, MAX_KEYS, LoopBound.ROBOTS, MAX_KEYS})
+    private void countingSort(int[] keys, int[] starts, int[] sorted) {
+        final int size = this.size;
+        final int n = starts.length;
+        for (int k = 0; k < n; k++)
+            starts[k] = 0;
+        // count the keys, shifted by one so that the prefix sums are the start indices
+        for (int i = 0; i < size; i++)
+            starts[keys[i] + 1]++;
+        for (int k = 2; k < n; k++)
+            starts[k] += starts[k - 1];
+        // place the robots, using starts[k] as the insertion index of key k ...
+        for (int i = 0; i < size; i++)
+            sorted[starts[keys[i]]++] = i;
+        // ... which moved every start to the next key, so shift them back
+        for (int k = n - 1; k > 0; k--)
+            starts[k] = starts[k - 1];
+        starts[0] = 0;
+    }
+
+}
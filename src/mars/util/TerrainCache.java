@@ -0,0 +1,81 @@
+package mars.util;
+
+import battlecode.common.Direction;
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotController;
+import mars.gen.Vision;
+
+/**
+ * Memory of the tiles that a unit has seen, so that map borders and passability do not have to be sensed again.
+ * <p>
+ * Tiles are stored in a 128x128 grid that is addressed by the coordinates modulo 128, like Robot.encodeLocation(). Since
+ * maps are at most 64 tiles wide, the tiles on the map and the off-map tiles next to it never share an entry. A tile is
+ * UNKNOWN, OFF_MAP or on the map with its passability in hundredths.
+ * <p>
+ * The first update() senses the whole sensor range, later updates only sense the tiles that became visible by moving a
+ * single step. Both are unrolled per sensor radius in the generated mars.gen.Vision.
+ */
+public final strictfp class TerrainCache {
+
+    public static final byte UNKNOWN = Vision.UNKNOWN, OFF_MAP = Vision.OFF_MAP;
+
+    private final RobotController rc;
+    private final int radiusSquared;
+    private final byte[] tiles = new byte[128 * 128];
+    private MapLocation last;
+
+    public TerrainCache(RobotController rc) {
+        this.rc = rc;
+        radiusSquared = rc.getType().sensorRadiusSquared;
+    }
+
+    /**
+     * Returns the index of the tile at (x, y).
+     */
+    private static int index(int x, int y) {
+        return ((x & 127) << 7) | (y & 127);
+    }
+
+    /**
+     * Returns the tiles, where the tile at (x, y) has index ((x & 127) << 7) | (y & 127).
+     */
+    public byte[] tiles() {
+        return tiles;
+    }
+
+    /**
+     * Returns UNKNOWN, OFF_MAP or the passability in hundredths of the tile at (x, y).
+     */
+    public byte get(int x, int y) {
+        return tiles[index(x, y)];
+    }
+
+    /**
+     * Returns the passability of the on-map tile at (x, y) if it is known, or 0 otherwise.
+     */
+    public double passability(int x, int y) {
+        final byte tile = tiles[index(x, y)];
+        return tile > 0 ? tile / 100.0 : 0;
+    }
+
+    /**
+     * Senses the tiles that became visible since the last update.
+     */
+    public void update() throws GameActionException {
+        final MapLocation location = rc.getLocation();
+        if (last == null) {
+            Vision.senseAll(radiusSquared, rc, tiles, location.x, location.y);
+        } else if (!location.equals(last)) {
+            final Direction direction = last.directionTo(location);
+            if (last.add(direction).equals(location)) {
+                Vision.senseDelta(radiusSquared, direction.ordinal(), rc, tiles, location.x, location.y);
+            } else {
+                // moved further than a step, which does not happen, so sense everything
+                Vision.senseAll(radiusSquared, rc, tiles, location.x, location.y);
+            }
+        }
+        last = location;
+    }
+
+}
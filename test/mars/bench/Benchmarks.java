@@ -0,0 +1,355 @@
+package mars.bench;
+
+import battlecode.common.*;
+import mars.robot.Muckraker;
+import mars.robot.Politician;
+import mars.robot.Robot;
+import mars.robot.ec.EnlightenmentCenter;
+import mars.sim.FakeRobotController;
+import mars.util.Navigator;
+import mars.util.TerrainCache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static mars.Constants.*;
+
+/**
+ * Micro-benchmarks of hot robot methods, run against a FakeRobotController instead of the engine.
+ * <p>
+ * Usage: {@code Benchmarks [--mode=time|calls] [--iterations=n] [--filter=name]}. The time mode reports the mean JVM
+ * time per operation after a warmup. The calls mode reports the number of RobotController calls per operation, which is
+ * deterministic and a good proxy for the engine costs of a method, since the engine charges a fixed cost per call.
+ */
+public final class Benchmarks {
+
+    /**
+     * Amounts of other robots in sensor range that every benchmark is run with.
+     */
+    public static final int[] ROBOT_COUNTS = {0, 8, 24, 48};
+
+    private static final MapLocation CENTER = new MapLocation(10032, 20032);
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Returns all benchmarks.
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+
+        benchmarks.add(new Benchmark("Robot.decodeLocation", RobotType.MUCKRAKER) {
+            Robot robot;
+            final int[] messages = new int[16];
+
+            @Override
+            void setUp(int robots) throws Exception {
+                robot = new Muckraker(rc);
+                Random random = new Random(robots);
+                for (int i = 0; i < messages.length; i++)
+                    messages[i] = Robot.encodeLocation(CENTER.translate(random.nextInt(65) - 32, random.nextInt(65) - 32));
+            }
+
+            @Override
+            void run() {
+                for (int message : messages)
+                    robot.decodeLocation(message);
+            }
+        });
+
+        benchmarks.add(new Benchmark("Muckraker.step (spreadOut)", RobotType.MUCKRAKER) {
+            Robot robot;
+
+            @Override
+            void setUp(int robots) throws Exception {
+                robot = new Muckraker(rc);
+                scatter(fake, robots, RobotType.MUCKRAKER.sensorRadiusSquared, fake.team, RobotType.MUCKRAKER);
+            }
+
+            @Override
+            void run() throws Exception {
+                fake.location = CENTER;
+                fake.cooldownTurns = 0;
+                sense(robot);
+                invoke(robot, "step");
+            }
+        });
+
+        benchmarks.add(new Benchmark("Politician.tryEmpower", RobotType.POLITICIAN) {
+            Robot robot;
+
+            @Override
+            void setUp(int robots) throws Exception {
+                robot = newPolitician(rc, Politician.Type.DEFENSIVE);
+                scatterMixed(fake, robots, RobotType.POLITICIAN.sensorRadiusSquared);
+            }
+
+            @Override
+            void run() throws Exception {
+                fake.cooldownTurns = 0;
+                sense(robot);
+                invoke(robot, "tryEmpower");
+            }
+        });
+
+        benchmarks.add(new Benchmark("Politician.step (tryEmpower + move)", RobotType.POLITICIAN) {
+            Robot robot;
+
+            @Override
+            void setUp(int robots) throws Exception {
+                robot = newPolitician(rc, Politician.Type.DEFENSIVE);
+                scatterMixed(fake, robots, RobotType.POLITICIAN.sensorRadiusSquared);
+            }
+
+            @Override
+            void run() throws Exception {
+                fake.location = CENTER;
+                fake.cooldownTurns = 0;
+                sense(robot);
+                invoke(robot, "step");
+            }
+        });
+
+        benchmarks.add(new Benchmark("Navigator.move (plan)", RobotType.POLITICIAN) {
+            Robot robot;
+            Navigator navigator;
+
+            @Override
+            void setUp(int robots) throws Exception {
+                robot = newPolitician(rc, Politician.Type.DEFENSIVE);
+                scatterMixed(fake, robots, RobotType.POLITICIAN.sensorRadiusSquared);
+                final TerrainCache terrain = new TerrainCache(rc);
+                terrain.update();
+                navigator = new Navigator(rc, terrain, robot.sensor, 0);
+            }
+
+            @Override
+            void run() throws Exception {
+                fake.location = CENTER;
+                fake.cooldownTurns = 0;
+                sense(robot);
+                navigator.move(CENTER.translate(20, 7));
+            }
+        });
+
+        benchmarks.add(new Benchmark("Scanner.scanUnits (full cycle)", RobotType.ENLIGHTENMENT_CENTER) {
+            Object scanner;
+
+            @Override
+            void setUp(int robots) throws Exception {
+                EnlightenmentCenter ec = new EnlightenmentCenter(rc);
+                scanner = get(ec, "scanner");
+                // units far away from the EC, with flags that report EC coordinates
+                Random random = new Random(robots);
+                for (int i = 0; i < robots; i++) {
+                    RobotType type = i % 3 == 0 ? RobotType.SLANDERER : i % 3 == 1 ? RobotType.MUCKRAKER : RobotType.POLITICIAN;
+                    RobotInfo unit = fake.addRobot(fake.team, type, CENTER.translate(20 + random.nextInt(10), 20 + random.nextInt(10)), 50);
+                    fake.setFlagOf(unit.ID, FLAG_MASK & ~(F_V_NEW_EC_COORDINATES | Robot.encodeLocation(unit.location)));
+                    invoke(scanner, "registerUnit", unit, type == RobotType.POLITICIAN ? Politician.Type.OFFENSIVE : null);
+                }
+            }
+
+            @Override
+            void run() throws Exception {
+                while ((Boolean) invoke(scanner, "scanUnitsStep")) ;
+            }
+        });
+
+        benchmarks.add(new Benchmark("EnlightenmentCenter.buildUnits", RobotType.ENLIGHTENMENT_CENTER) {
+            EnlightenmentCenter ec;
+            final List<Integer> enemies = new ArrayList<>();
+
+            @Override
+            void setUp(int robots) throws Exception {
+                ec = new EnlightenmentCenter(rc);
+                scatter(fake, robots, RobotType.ENLIGHTENMENT_CENTER.sensorRadiusSquared, fake.team.opponent(), RobotType.MUCKRAKER);
+                for (RobotInfo robot : fake.robots())
+                    enemies.add(robot.ID);
+                sense(ec);
+                invoke(get(ec, "scanner"), "scanNearby");
+            }
+
+            @Override
+            void run() throws Exception {
+                fake.cooldownTurns = 0;
+                fake.influence = 1000;
+                invoke(ec, "buildUnits");
+                // remove the unit that was just built
+                for (RobotInfo robot : new ArrayList<>(fake.robots()))
+                    if (!enemies.contains(robot.ID))
+                        fake.removeRobot(robot.ID);
+            }
+        });
+
+        return benchmarks;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = "time";
+        int iterations = 20000;
+        String filter = "";
+        for (String arg : args) {
+            if (arg.startsWith("--mode="))
+                mode = arg.substring("--mode=".length());
+            else if (arg.startsWith("--iterations="))
+                iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+            else if (arg.startsWith("--filter="))
+                filter = arg.substring("--filter=".length());
+            else
+                throw new IllegalArgumentException("unknown argument " + arg);
+        }
+
+        System.out.printf("%-45s %7s %14s%n", "benchmark", "robots", mode.equals("calls") ? "calls/op" : "ns/op");
+        for (Benchmark benchmark : all()) {
+            if (!benchmark.name.contains(filter))
+                continue;
+            for (int robots : ROBOT_COUNTS) {
+                benchmark.init(robots);
+                String result;
+                if (mode.equals("calls")) {
+                    result = String.format("%14d", benchmark.measureCalls());
+                } else {
+                    result = String.format("%14.0f", benchmark.measureTime(iterations / 10, iterations));
+                }
+                System.out.printf("%-45s %7d %s%n", benchmark.name, robots, result);
+            }
+        }
+    }
+
+    // helpers
+
+    /**
+     * Places [n] robots of [team] and [type] on distinct random locations within [radiusSquared] of the center.
+     */
+    static void scatter(FakeRobotController fake, int n, int radiusSquared, Team team, RobotType type) {
+        Random random = new Random(n);
+        List<MapLocation> free = new ArrayList<>();
+        int r = (int) Math.sqrt(radiusSquared);
+        for (int dx = -r; dx <= r; dx++)
+            for (int dy = -r; dy <= r; dy++)
+                if ((dx != 0 || dy != 0) && dx * dx + dy * dy <= radiusSquared)
+                    free.add(CENTER.translate(dx, dy));
+        for (RobotInfo robot : fake.robots())
+            free.remove(robot.location);
+        for (int i = 0; i < n && !free.isEmpty(); i++)
+            fake.addRobot(team, type, free.remove(random.nextInt(free.size())), 10 + random.nextInt(100));
+    }
+
+    /**
+     * Places a mix of [n] friendly and enemy robots within [radiusSquared] of the center.
+     */
+    static void scatterMixed(FakeRobotController fake, int n, int radiusSquared) {
+        scatter(fake, n / 4, radiusSquared, fake.team, RobotType.POLITICIAN);
+        scatter(fake, n / 4, radiusSquared, fake.team.opponent(), RobotType.POLITICIAN);
+        scatter(fake, n - 2 * (n / 4), radiusSquared, fake.team.opponent(), RobotType.MUCKRAKER);
+    }
+
+    static Politician newPolitician(RobotController rc, Politician.Type type) throws Exception {
+        Politician politician = new Politician(rc);
+        Field field = Politician.class.getDeclaredField("type");
+        field.setAccessible(true);
+        field.set(politician, type);
+        return politician;
+    }
+
+    /**
+     * Invokes the (possibly non-public) method [name] of [target] or one of its superclasses.
+     */
+    static Object invoke(Object target, String name, Object... args) throws Exception {
+        for (Class<?> c = target.getClass(); c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == args.length) {
+                    method.setAccessible(true);
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        if (e.getCause() instanceof Exception)
+                            throw (Exception) e.getCause();
+                        throw e;
+                    }
+                }
+            }
+        }
+        throw new NoSuchMethodException(target.getClass().getName() + "." + name);
+    }
+
+    /**
+     * Returns the value of the (possibly non-public) field [name] of [target] or one of its superclasses.
+     */
+    static Object get(Object target, String name) throws Exception {
+        for (Class<?> c = target.getClass(); c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return field.get(target);
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        throw new NoSuchFieldException(target.getClass().getName() + "." + name);
+    }
+
+    /**
+     * A benchmark of an operation of a robot of a specific type, standing at the center of the map.
+     */
+    public abstract static class Benchmark {
+
+        public final String name;
+        private final RobotType type;
+        FakeRobotController fake;
+        RobotController rc;
+
+        Benchmark(String name, RobotType type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * Creates a fresh fake controller and sets the benchmark up with [robots] other robots.
+         */
+        public void init(int robots) throws Exception {
+            fake = new FakeRobotController(type, CENTER);
+            rc = fake.controller();
+            setUp(robots);
+        }
+
+        abstract void setUp(int robots) throws Exception;
+
+        /**
+         * Advances the round and lets [robot] sense its surroundings, like it does at the start of every turn.
+         */
+        void sense(Robot robot) {
+            fake.roundNum++;
+            robot.sensor.update(fake.roundNum);
+        }
+
+        abstract void run() throws Exception;
+
+        /**
+         * Returns the mean time per operation in nanoseconds.
+         */
+        public double measureTime(int warmup, int iterations) throws Exception {
+            for (int i = 0; i < warmup; i++)
+                run();
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++)
+                run();
+            return (System.nanoTime() - start) / (double) iterations;
+        }
+
+        /**
+         * Returns the number of RobotController calls of a single operation.
+         */
+        public int measureCalls() throws Exception {
+            fake.resetCalls();
+            run();
+            return fake.totalCalls();
+        }
+
+    }
+
+}
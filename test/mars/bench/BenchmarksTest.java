@@ -0,0 +1,20 @@
+package mars.bench;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class BenchmarksTest {
+
+	@Test
+	public void testBenchmarksRun() throws Exception {
+		for (Benchmarks.Benchmark benchmark : Benchmarks.all()) {
+			for (int robots : Benchmarks.ROBOT_COUNTS) {
+				benchmark.init(robots);
+				assertTrue(benchmark.measureTime(1, 3) >= 0);
+				assertTrue(benchmark.measureCalls() >= 0);
+			}
+		}
+	}
+
+}
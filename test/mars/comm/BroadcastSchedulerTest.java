@@ -0,0 +1,91 @@
+package mars.comm;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BroadcastSchedulerTest {
+
+	@Test
+	public void testChangedMessagesGoFirst() {
+		BroadcastScheduler broadcasts = new BroadcastScheduler(3);
+		broadcasts.configure(0, 2, 1);
+		broadcasts.configure(1, 1, 3);
+		broadcasts.configure(2, 0, 3);
+		assertEquals(BroadcastScheduler.NONE, broadcasts.next(1));
+
+		broadcasts.set(1, 10, BroadcastScheduler.NEVER);
+		broadcasts.set(2, 20, BroadcastScheduler.NEVER);
+		assertEquals(10, broadcasts.next(1));
+		assertEquals(20, broadcasts.next(2));
+		assertEquals(10, broadcasts.next(3));
+
+		// a changed message is sent right away, even though the other message is overdue
+		broadcasts.set(1, 11, BroadcastScheduler.NEVER);
+		assertEquals(11, broadcasts.next(4));
+		assertEquals(20, broadcasts.next(5));
+
+		// setting the same message again keeps the order of rebroadcasts
+		broadcasts.set(2, 20, BroadcastScheduler.NEVER);
+		assertEquals(11, broadcasts.next(6));
+		assertEquals(20, broadcasts.next(7));
+
+		// the most urgent of several changed messages goes first
+		broadcasts.set(2, 21, BroadcastScheduler.NEVER);
+		broadcasts.set(0, 1, 8);
+		assertEquals(1, broadcasts.next(8));
+		assertEquals(21, broadcasts.next(9));
+	}
+
+	@Test
+	public void testExpiryAndClear() {
+		BroadcastScheduler broadcasts = new BroadcastScheduler(2);
+		broadcasts.configure(0, 1, 1);
+		broadcasts.configure(1, 0, 4);
+		broadcasts.set(0, 1, 5);
+		broadcasts.set(1, 2, BroadcastScheduler.NEVER);
+		assertEquals(1, broadcasts.next(5));
+		assertEquals(2, broadcasts.next(6));
+		// the first message expired after round 5
+		assertEquals(2, broadcasts.next(7));
+
+		broadcasts.clear(1);
+		assertEquals(BroadcastScheduler.NONE, broadcasts.next(8));
+	}
+
+	@Test
+	public void testExpiringMessagesGoFirst() {
+		BroadcastScheduler broadcasts = new BroadcastScheduler(3);
+		broadcasts.configure(0, 1, 1);
+		broadcasts.configure(1, 0, 1);
+		broadcasts.configure(2, 2, 2);
+		broadcasts.set(2, 20, BroadcastScheduler.NEVER);
+		assertEquals(20, broadcasts.next(1));
+
+		// messages that are only valid in this round beat a changed or overdue message, the most urgent first
+		broadcasts.set(2, 21, BroadcastScheduler.NEVER);
+		broadcasts.set(0, 1, 10);
+		broadcasts.set(1, 2, 10);
+		assertEquals(1, broadcasts.next(10));
+		broadcasts.set(1, 3, 11);
+		assertEquals(3, broadcasts.next(11));
+		assertEquals(21, broadcasts.next(12));
+	}
+
+	@Test
+	public void testRotate() {
+		BroadcastScheduler broadcasts = new BroadcastScheduler(2);
+		broadcasts.configure(0, 1, 2);
+		broadcasts.configure(1, 0, 2);
+		broadcasts.set(0, 1, BroadcastScheduler.NEVER);
+		broadcasts.rotate(1, 10);
+		assertEquals(1, broadcasts.next(1));
+		assertEquals(10, broadcasts.next(2));
+
+		// a rotated message waits for its turn
+		broadcasts.rotate(1, 11);
+		assertEquals(1, broadcasts.next(3));
+		assertEquals(11, broadcasts.next(4));
+	}
+
+}
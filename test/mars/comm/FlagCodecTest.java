@@ -0,0 +1,43 @@
+package mars.comm;
+
+import org.junit.Test;
+
+import static mars.Constants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlagCodecTest {
+
+	@Test
+	public void testEcFound() {
+		int message = FlagCodec.ecFound(FlagCodec.TEAM_ALLY, -15, -63, 42);
+		assertEquals(FlagCodec.EC_FOUND, message & F_M_ACTION);
+		assertEquals(0, message & ~FLAG_MASK);
+		assertEquals(FlagCodec.TEAM_ALLY, FlagCodec.team(message));
+		assertEquals(-15, FlagCodec.idDelta(message));
+		assertEquals(-63, FlagCodec.dx(message));
+		assertEquals(42, FlagCodec.dy(message));
+
+		message = FlagCodec.ecFound(FlagCodec.TEAM_NEUTRAL, FlagCodec.NO_ID_DELTA, 63, -1);
+		assertEquals(FlagCodec.TEAM_NEUTRAL, FlagCodec.team(message));
+		assertEquals(FlagCodec.NO_ID_DELTA, FlagCodec.idDelta(message));
+		assertEquals(63, FlagCodec.dx(message));
+		assertEquals(-1, FlagCodec.dy(message));
+		assertEquals(F_M_LOCATION, FlagCodec.EC_FOUND_LOCATION);
+
+		assertTrue(FlagCodec.fitsIdDelta(15));
+		assertTrue(FlagCodec.fitsIdDelta(-15));
+		assertFalse(FlagCodec.fitsIdDelta(16));
+		assertFalse(FlagCodec.fitsIdDelta(FlagCodec.NO_ID_DELTA));
+	}
+
+	@Test
+	public void testBorders() {
+		int message = FlagCodec.borders(F_V_BORDER_T | 127, F_V_BORDER_L | 5);
+		assertEquals(FlagCodec.BORDERS, message & F_M_ACTION);
+		assertEquals(F_V_BORDER_T | 127, FlagCodec.firstBorder(message));
+		assertEquals(F_V_BORDER_L | 5, FlagCodec.secondBorder(message));
+	}
+
+}
@@ -0,0 +1,150 @@
+package mars.robot.ec;
+
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotType;
+import mars.sim.FakeRobotController;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static mars.Constants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BidderTest {
+
+	private static final MapLocation CENTER = new MapLocation(10032, 20032);
+
+	private static FakeRobotController newEC() {
+		FakeRobotController fake = new FakeRobotController(RobotType.ENLIGHTENMENT_CENTER, CENTER);
+		fake.influence = 10000;
+		fake.roundNum = 200;
+		return fake;
+	}
+
+	private static Object field(Object target, String name) throws Exception {
+		Field field = target.getClass().getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(target);
+	}
+
+	/**
+	 * Bids in the next round after the bid of the last round [won], and returns the new bid.
+	 */
+	private static int bidAfter(Bidder bidder, FakeRobotController fake, boolean won) throws GameActionException {
+		fake.roundNum++;
+		if (won)
+			fake.teamVotes++;
+		bidder.bid(true);
+		return fake.lastBid;
+	}
+
+	@Test
+	public void testUpdate() throws GameActionException {
+		FakeRobotController fake = newEC();
+		Bidder bidder = new Bidder(fake.controller());
+		bidder.bid(true);
+		assertEquals(MINIMAL_BID, fake.lastBid);
+
+		// without a winning bid the bid doubles
+		assertEquals(2 * MINIMAL_BID + MINIMAL_BID, bidAfter(bidder, fake, false));
+		assertEquals(MINIMAL_BID, bidder.low);
+		assertEquals(Bidder.UNKNOWN, bidder.high);
+
+		// a win brackets the bid of the opponent, the next bid is in the middle
+		assertEquals((MINIMAL_BID + 9 + 1) / 2, bidAfter(bidder, fake, true));
+		assertEquals(9, bidder.high);
+		assertEquals((6 + 9 + 1) / 2, bidAfter(bidder, fake, false));
+		assertEquals(6, bidder.low);
+	}
+
+	@Test
+	public void testDecayAfterStreak() throws GameActionException {
+		FakeRobotController fake = newEC();
+		Bidder bidder = new Bidder(fake.controller());
+		bidder.low = 80;
+		bidder.high = 100;
+		bidder.bid(true);
+		for (int i = 1; i < Bidder.PROBE_STREAK; i++)
+			bidAfter(bidder, fake, true);
+		assertEquals(80, bidder.low);
+
+		// the last win of the streak lowers the lower end to probe for a cheaper vote
+		bidAfter(bidder, fake, true);
+		assertEquals(70, bidder.low);
+		assertEquals(81, bidder.high);
+	}
+
+	@Test
+	public void testLossAtUpperEndDropsIt() throws GameActionException {
+		FakeRobotController fake = newEC();
+		Bidder bidder = new Bidder(fake.controller());
+		bidder.low = 40;
+		bidder.high = 41;
+		bidder.bid(true);
+		assertEquals(41, fake.lastBid);
+
+		// the opponent bids more than the lowest bid that won before
+		assertEquals(2 * 41 + MINIMAL_BID, bidAfter(bidder, fake, false));
+		assertEquals(41, bidder.low);
+		assertEquals(Bidder.UNKNOWN, bidder.high);
+	}
+
+	@Test
+	public void testMinimalBidIfUnaffordable() throws GameActionException {
+		FakeRobotController fake = newEC();
+		Bidder bidder = new Bidder(fake.controller());
+		bidder.low = 100;
+		fake.influence = 300;
+		bidder.bid(true);
+		assertEquals(MINIMAL_BID, fake.lastBid);
+		assertTrue(bidder.poor);
+
+		// the fallback bid does not change the bracket
+		bidAfter(bidder, fake, false);
+		assertEquals(100, bidder.low);
+
+		fake.influence = 1000;
+		assertEquals(2 * 100 + MINIMAL_BID, bidAfter(bidder, fake, false));
+		assertFalse(bidder.poor);
+	}
+
+	@Test
+	public void testPoorLeaderIsSkipped() throws Exception {
+		FakeRobotController fake = newEC();
+		fake.id = 20000;
+		Scanner scanner = (Scanner) field(new EnlightenmentCenter(fake.controller()), "scanner");
+		Method addPeer = Scanner.class.getDeclaredMethod("addPeer", int.class);
+		addPeer.setAccessible(true);
+		int poor = fake.addRobot(fake.team, RobotType.ENLIGHTENMENT_CENTER, CENTER.translate(20, 0), 100).ID;
+		int rich = fake.addRobot(fake.team, RobotType.ENLIGHTENMENT_CENTER, CENTER.translate(0, 20), 100).ID;
+		// flags are stored inverted, so an empty flag is all ones
+		fake.setFlagOf(poor, FLAG_MASK);
+		fake.setFlagOf(rich, FLAG_MASK);
+		addPeer.invoke(scanner, poor);
+		scanner.scanPeers();
+		assertFalse(scanner.leadsPeers());
+
+		// the peer with the lowest id cannot afford its bid, so this EC bids
+		fake.setFlagOf(poor, FLAG_MASK & ~F_B_EC_POOR);
+		scanner.scanPeers();
+		assertTrue(scanner.leadsPeers());
+
+		// unless another peer with a lower id can afford it
+		addPeer.invoke(scanner, rich);
+		scanner.scanPeers();
+		assertFalse(scanner.leadsPeers());
+
+		// the poor peer is lost, and its state does not stick to the peer that takes its place
+		fake.removeRobot(poor);
+		scanner.scanPeers();
+		assertFalse(scanner.leadsPeers());
+		fake.setFlagOf(rich, FLAG_MASK & ~F_B_EC_POOR);
+		scanner.scanPeers();
+		assertTrue(scanner.leadsPeers());
+	}
+
+}
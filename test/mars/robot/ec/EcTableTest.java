@@ -0,0 +1,59 @@
+package mars.robot.ec;
+
+import battlecode.common.MapLocation;
+import mars.robot.Robot;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EcTableTest {
+
+	private static MapLocation location(int i) {
+		return new MapLocation(10000 + i % 64, 20000 + i / 64);
+	}
+
+	@Test
+	public void testCollisions() {
+		// find three locations whose codes hash to the same slot
+		MapLocation[] colliding = new MapLocation[3];
+		int found = 1;
+		colliding[0] = location(0);
+		int slot = EcTable.hash(Robot.encodeLocation(colliding[0]));
+		for (int i = 1; found < colliding.length; i++)
+			if (EcTable.hash(Robot.encodeLocation(location(i))) == slot)
+				colliding[found++] = location(i);
+
+		EcTable ecs = new EcTable();
+		for (int i = 0; i < colliding.length; i++)
+			assertEquals(i, ecs.add(colliding[i]));
+		for (int i = 0; i < colliding.length; i++) {
+			assertEquals(i, ecs.indexOf(Robot.encodeLocation(colliding[i])));
+			assertEquals(i, ecs.add(colliding[i]));
+		}
+		assertEquals(colliding.length, ecs.size);
+
+		ecs.put(colliding[1], 12345, EcTable.ALLY);
+		assertEquals(12345, ecs.ids[1]);
+		assertEquals(EcTable.ALLY, ecs.states[1]);
+		assertEquals(EcTable.NO_ID, ecs.ids[2]);
+		assertEquals(EcTable.UNKNOWN, ecs.states[2]);
+	}
+
+	@Test
+	public void testFull() {
+		EcTable ecs = new EcTable();
+		for (int i = 0; i < EcTable.CAPACITY; i++)
+			assertEquals(i, ecs.add(location(i)));
+		assertEquals(-1, ecs.add(location(EcTable.CAPACITY)));
+		assertEquals(-1, ecs.indexOf(Robot.encodeLocation(location(EcTable.CAPACITY))));
+		// ECs that are in the table are still found
+		assertEquals(EcTable.CAPACITY - 1, ecs.add(location(EcTable.CAPACITY - 1)));
+		for (int i = 0; i < EcTable.CAPACITY; i++)
+			assertEquals(i, ecs.indexOf(Robot.encodeLocation(location(i))));
+
+		// put on a full table is ignored
+		ecs.put(location(EcTable.CAPACITY), 1, EcTable.ENEMY);
+		assertEquals(EcTable.CAPACITY, ecs.size);
+	}
+
+}
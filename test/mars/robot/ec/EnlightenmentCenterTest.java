@@ -0,0 +1,63 @@
+package mars.robot.ec;
+
+import mars.comm.BroadcastScheduler;
+import org.junit.Test;
+
+import static mars.robot.ec.EnlightenmentCenter.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EnlightenmentCenterTest {
+
+	private static final int CHANNELS = CHANNEL_TARGETS + 2;
+
+	// a message tells the channel it was set on
+	private static int message(int channel, int i) {
+		return channel * 10000 + i;
+	}
+
+	@Test
+	public void testBroadcastsDoNotDropInstructions() {
+		// more messages than fit on the flag: an instruction every other round, a grant every third round, targets
+		// that change every few rounds, knowledge for other ECs and two pairs of border codes
+		BroadcastScheduler broadcasts = newBroadcasts();
+		broadcasts.set(CHANNEL_BORDERS, message(CHANNEL_BORDERS, 0), BroadcastScheduler.NEVER);
+		broadcasts.set(CHANNEL_BORDERS + 1, message(CHANNEL_BORDERS + 1, 0), BroadcastScheduler.NEVER);
+		int sync = 0;
+		int grants = 0;
+		int[] lastSent = new int[CHANNELS];
+		int[] maxGaps = new int[CHANNELS];
+		for (int round = 1; round <= 1000; round++) {
+			int instruction = round % 2 == 0 ? message(CHANNEL_INSTRUCTION, round) : BroadcastScheduler.NONE;
+			if (instruction != BroadcastScheduler.NONE)
+				broadcasts.set(CHANNEL_INSTRUCTION, instruction, round);
+			broadcasts.set(CHANNEL_TARGETS, message(CHANNEL_TARGETS, round / 3), BroadcastScheduler.NEVER);
+			broadcasts.set(CHANNEL_TARGETS + 1, message(CHANNEL_TARGETS + 1, round / 5), BroadcastScheduler.NEVER);
+			int grant = round % 3 == 0 ? message(CHANNEL_STREAM, round) : BroadcastScheduler.NONE;
+			if (grant != BroadcastScheduler.NONE)
+				broadcasts.set(CHANNEL_STREAM, grant, round);
+			broadcasts.rotate(CHANNEL_SYNC, message(CHANNEL_SYNC, sync));
+
+			int message = broadcasts.next(round);
+			broadcasts.clear(CHANNEL_STREAM);
+			if (instruction != BroadcastScheduler.NONE)
+				assertEquals(instruction, message);
+			else if (grant != BroadcastScheduler.NONE)
+				// a grant is only lost to an instruction
+				assertEquals(grant, message);
+			if (message == grant)
+				grants++;
+			if (message == message(CHANNEL_SYNC, sync))
+				sync = (sync + 1) % 8;
+
+			int channel = message / 10000;
+			maxGaps[channel] = Math.max(maxGaps[channel], round - lastSent[channel]);
+			lastSent[channel] = round;
+		}
+		assertEquals(1000 / 3 - 1000 / 6, grants);
+		// the repeating channels share the remaining rounds, each is repeated within the longest interval
+		for (int c = CHANNEL_SYNC; c < CHANNELS; c++)
+			assertTrue("channel " + c + " waited " + maxGaps[c] + " rounds", maxGaps[c] <= 6);
+	}
+
+}
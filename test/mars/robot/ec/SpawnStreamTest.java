@@ -0,0 +1,136 @@
+package mars.robot.ec;
+
+import battlecode.common.MapLocation;
+import battlecode.common.RobotInfo;
+import battlecode.common.RobotType;
+import mars.robot.Muckraker;
+import mars.robot.Politician;
+import mars.robot.Robot;
+import mars.robot.Unit;
+import mars.sim.FakeRobotController;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static mars.Constants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs an EC and a unit that it spawned against each other, to check that the spawn messages of the unit are read in
+ * streams.
+ */
+public class SpawnStreamTest {
+
+	private static final MapLocation CENTER = new MapLocation(10032, 20032);
+	private static final int BURST = 12;
+	private static final int SCAN_ROUNDS = 4;
+
+	private final FakeRobotController ecFake = new FakeRobotController(RobotType.ENLIGHTENMENT_CENTER, CENTER);
+	private final FakeRobotController unitFake = new FakeRobotController(RobotType.MUCKRAKER, CENTER.translate(1, 0));
+	private EnlightenmentCenter ec;
+	private Scanner scanner;
+	private Muckraker unit;
+	// reads[k] is the round in which the EC knew message k of the burst
+	private final int[] reads = new int[BURST];
+	private int grants;
+	// whether the EC instructs a new politician in the round in which it reads the first message
+	private boolean instructOnFirstRead;
+
+	private static Object invoke(Object target, Class<?> c, String name) throws Exception {
+		Method method = c.getDeclaredMethod(name);
+		method.setAccessible(true);
+		return method.invoke(target);
+	}
+
+	private static Field field(Class<?> c, String name) throws Exception {
+		Field field = c.getDeclaredField(name);
+		field.setAccessible(true);
+		return field;
+	}
+
+	private static MapLocation burstLocation(int k) {
+		return CENTER.translate(20 + k, 25);
+	}
+
+	/**
+	 * Spawns the unit, which queues BURST messages about ECs once it knows its spawn.
+	 */
+	private void spawn() throws Exception {
+		// the fakes assign ids from 10000, so both of them have to agree on the ids
+		ecFake.addRobot(ecFake.team, RobotType.MUCKRAKER, CENTER.translate(-1, 0), 1);
+		RobotInfo unitInfo = ecFake.addRobot(ecFake.team, RobotType.MUCKRAKER, unitFake.location, 1);
+		ecFake.removeRobot(10000);
+		RobotInfo ecInfo = unitFake.addRobot(unitFake.team, RobotType.ENLIGHTENMENT_CENTER, CENTER, 100);
+		ecFake.id = ecInfo.ID;
+		unitFake.id = unitInfo.ID;
+
+		ec = new EnlightenmentCenter(ecFake.controller());
+		scanner = (Scanner) field(EnlightenmentCenter.class, "scanner").get(ec);
+		scanner.registerUnit(unitInfo, null);
+		unit = new Muckraker(unitFake.controller());
+		Method setSpawn = Unit.class.getDeclaredMethod("setSpawn", MapLocation.class, int.class);
+		setSpawn.setAccessible(true);
+		setSpawn.invoke(unit, CENTER, ecInfo.ID);
+		invoke(unit, Unit.class, "readSpawnFlag");
+		Method queue = Unit.class.getDeclaredMethod("queueSpawnMessage", int.class);
+		queue.setAccessible(true);
+		for (int k = 0; k < BURST; k++)
+			assertTrue((Boolean) queue.invoke(unit, F_V_NEW_EC_COORDINATES | Robot.encodeLocation(burstLocation(k))));
+	}
+
+	/**
+	 * Plays [round], in which the EC goes first, and the unit sees the flag that the EC set.
+	 */
+	private void play(int round) throws Exception {
+		ecFake.roundNum = unitFake.roundNum = round;
+		ecFake.setFlagOf(unitFake.id, unitFake.flag);
+		scanner.pollUnits();
+		// a scan cycle of the EC takes several rounds with many units
+		if (round % SCAN_ROUNDS == 0)
+			while (scanner.scanUnitsStep()) ;
+		for (int k = 0; k < BURST; k++)
+			if (reads[k] == 0 && scanner.ecs.indexOf(Robot.encodeLocation(burstLocation(k))) >= 0)
+				reads[k] = round;
+		if (instructOnFirstRead && reads[0] == round)
+			field(EnlightenmentCenter.class, "instructionFlag").set(ec, Politician.Type.OFFENSIVE.spawnInstruction);
+		ec.updateFlag();
+		if (((FLAG_MASK & ~ecFake.flag) & F_M_ACTION) == F_V_EC_STREAM)
+			grants++;
+
+		unitFake.setFlagOf(ecFake.id, ecFake.flag);
+		invoke(unit, Unit.class, "readSpawnFlag");
+		invoke(unit, Unit.class, "updateFlag");
+	}
+
+	@Test
+	public void testBurstIsReadEveryRound() throws Exception {
+		spawn();
+		for (int round = 1; round <= 30; round++)
+			play(round);
+
+		// the first message is polled, the others are streamed, where the stream is granted again at its end
+		assertTrue(reads[0] > 0);
+		for (int k = 1; k < BURST; k++)
+			assertEquals(reads[0] + k, reads[k]);
+		assertEquals(2, grants);
+	}
+
+	@Test
+	public void testLostGrantIsGrantedAgain() throws Exception {
+		spawn();
+		// the instruction takes the flag in the round of the first grant
+		instructOnFirstRead = true;
+		for (int round = 1; round <= 30; round++)
+			play(round);
+
+		// the unit shows its first message until it is polled again, which is soon since it is hot, and then streams
+		assertTrue(reads[0] > 0);
+		assertEquals(reads[0] + PANIC_LATENCY_ROUNDS + 1, reads[1]);
+		for (int k = 2; k < BURST; k++)
+			assertEquals(reads[1] + k - 1, reads[k]);
+		assertEquals(2, grants);
+	}
+
+}
@@ -0,0 +1,86 @@
+package mars.robot.ec;
+
+import battlecode.common.MapLocation;
+import org.junit.Test;
+
+import static mars.robot.ec.SymmetryTracker.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SymmetryTrackerTest {
+
+	private static final MapLocation HERE = new MapLocation(10010, 20010);
+	private static final int SENSOR_RADIUS_SQUARED = 40;
+
+	private final EcTable ecs = new EcTable();
+
+	/**
+	 * Returns a tracker of the EC at HERE, which is the first EC of the table.
+	 */
+	private SymmetryTracker newTracker(boolean starting) {
+		ecs.put(HERE, EcTable.NO_ID, EcTable.ALLY);
+		return new SymmetryTracker(ecs, HERE, SENSOR_RADIUS_SQUARED, starting ? 0 : -1);
+	}
+
+	@Test
+	public void testEarlyCommitWithOneBorderPair() {
+		SymmetryTracker tracker = newTracker(false);
+		// another EC has ruled out all but the horizontal symmetry, which needs the borders in x direction only
+		tracker.assume(HORIZONTAL);
+		tracker.setSums(0, 40040);
+		assertFalse(tracker.update());
+		assertEquals(0, tracker.symmetry);
+
+		tracker.setSums(20040, 0);
+		assertTrue(tracker.update());
+		assertEquals(HORIZONTAL, tracker.symmetry);
+		assertEquals(new MapLocation(10030, 20010), tracker.mirror(HERE));
+	}
+
+	@Test
+	public void testStartingEcRule() {
+		SymmetryTracker tracker = newTracker(true);
+		tracker.setSums(20040, 40040);
+		// the horizontal and vertical symmetries mirror this starting EC onto neutral ECs, which are too far away to be
+		// seen, while the rotational mirror image is unknown
+		ecs.put(new MapLocation(10030, 20010), EcTable.NO_ID, EcTable.NEUTRAL);
+		ecs.put(new MapLocation(10010, 20030), EcTable.NO_ID, EcTable.NEUTRAL);
+		assertTrue(tracker.update());
+		assertEquals(ROTATIONAL, tracker.symmetry);
+	}
+
+	@Test
+	public void testContradictionResets() {
+		SymmetryTracker tracker = newTracker(true);
+		// every symmetry mirrors this starting EC onto itself
+		tracker.setSums(20020, 40020);
+		assertFalse(tracker.update());
+		assertEquals(ALL, tracker.possible);
+		assertEquals(0, tracker.symmetry);
+	}
+
+	@Test
+	public void testIncrementalElimination() {
+		SymmetryTracker tracker = newTracker(false);
+		// the mirror images of this EC are out of sight
+		tracker.setSums(20040, 40040);
+		assertFalse(tracker.update());
+		assertEquals(ALL, tracker.possible);
+
+		// the horizontal mirror image of this EC would be in sight
+		ecs.add(new MapLocation(10028, 20012));
+		assertFalse(tracker.update());
+		assertEquals(VERTICAL | ROTATIONAL, tracker.possible);
+
+		// the rotational mirror image of the last EC, whose vertical mirror image would be in sight
+		ecs.add(new MapLocation(10012, 20028));
+		assertTrue(tracker.update());
+		assertEquals(ROTATIONAL, tracker.possible);
+		assertEquals(ROTATIONAL, tracker.symmetry);
+		assertEquals(new MapLocation(10028, 20012), tracker.mirror(new MapLocation(10012, 20028)));
+		// the symmetry is final
+		assertFalse(tracker.update());
+	}
+
+}
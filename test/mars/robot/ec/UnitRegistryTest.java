@@ -0,0 +1,108 @@
+package mars.robot.ec;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class UnitRegistryTest {
+
+	/**
+	 * Checks that the registry holds the units of [expected], mapping ids to tiers, and that every listed tier lists
+	 * exactly its rows.
+	 */
+	private static void assertConsistent(UnitRegistry units, Map<Integer, Integer> expected) {
+		assertEquals(expected.size(), units.size);
+		int[] counts = new int[3];
+		for (int i = 0; i < units.size; i++) {
+			assertTrue(expected.containsKey(units.ids[i]));
+			int tier = units.tiers[i];
+			assertEquals((int) expected.get(units.ids[i]), tier);
+			counts[tier]++;
+			if (tier != UnitRegistry.COLD) {
+				assertTrue(units.tierIndices[i] < units.tierSizes[tier]);
+				assertEquals(i, units.tierRows[tier][units.tierIndices[i]]);
+			}
+		}
+		assertEquals(counts[UnitRegistry.WARM], units.tierSizes[UnitRegistry.WARM]);
+		assertEquals(counts[UnitRegistry.HOT], units.tierSizes[UnitRegistry.HOT]);
+	}
+
+	private static int rowOf(UnitRegistry units, int id) {
+		for (int i = 0; i < units.size; i++)
+			if (units.ids[i] == id)
+				return i;
+		throw new AssertionError("no row for " + id);
+	}
+
+	@Test
+	public void testRemove() {
+		UnitRegistry units = new UnitRegistry(2);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int id = 1; id <= 5; id++) {
+			int i = units.add(id, 10 * id, 1, 0, UnitRegistry.NO_POLITICIAN_TYPE);
+			units.setTier(i, id % 3);
+			expected.put(id, id % 3);
+		}
+		assertConsistent(units, expected);
+
+		// the last row, which is listed
+		units.remove(4);
+		expected.remove(5);
+		assertConsistent(units, expected);
+
+		// a listed row that is replaced by a listed row of another tier
+		units.setTier(rowOf(units, 4), UnitRegistry.HOT);
+		expected.put(4, UnitRegistry.HOT);
+		units.remove(rowOf(units, 2));
+		expected.remove(2);
+		assertConsistent(units, expected);
+		assertEquals(40, units.influences[rowOf(units, 4)]);
+
+		// a listed row that is replaced by a listed row of the same tier
+		units.setTier(rowOf(units, 1), UnitRegistry.HOT);
+		expected.put(1, UnitRegistry.HOT);
+		units.remove(rowOf(units, 1));
+		expected.remove(1);
+		assertConsistent(units, expected);
+
+		// the only remaining rows
+		units.remove(rowOf(units, 3));
+		expected.remove(3);
+		units.remove(0);
+		expected.remove(4);
+		assertConsistent(units, expected);
+	}
+
+	@Test
+	public void testRandomOperations() {
+		Random random = new Random(2021);
+		UnitRegistry units = new UnitRegistry(4);
+		Map<Integer, Integer> expected = new HashMap<>();
+		int nextId = 1;
+		for (int step = 0; step < 5000; step++) {
+			int operation = random.nextInt(3);
+			if (operation == 0 || units.size == 0) {
+				int i = units.add(nextId, 1, step, 0, UnitRegistry.NO_POLITICIAN_TYPE);
+				expected.put(nextId++, UnitRegistry.COLD);
+				assertEquals(units.size - 1, i);
+			} else if (operation == 1) {
+				int i = random.nextInt(units.size);
+				int tier = random.nextInt(3);
+				units.setTier(i, tier);
+				expected.put(units.ids[i], tier);
+			} else {
+				// favour the last row, which is not moved
+				int i = random.nextBoolean() ? units.size - 1 : random.nextInt(units.size);
+				expected.remove(units.ids[i]);
+				units.remove(i);
+			}
+			assertConsistent(units, expected);
+		}
+	}
+
+}
@@ -0,0 +1,352 @@
+package mars.sim;
+
+import battlecode.common.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Scriptable stand-in for the engine's RobotController, for running robot code outside of a match. The state of the
+ * controlled robot, other robots, flags, passability and the map bounds can be set directly.
+ * <p>
+ * Use controller() to obtain the RobotController. Calls to it are dispatched to the public method of this class with
+ * the same signature and are counted per method name. Methods that are not implemented throw an
+ * UnsupportedOperationException.
+ */
+public class FakeRobotController {
+
+    // map bounds, inclusive lower and exclusive upper
+    public int minX = 10000, minY = 20000, maxX = 10000 + 64, maxY = 20000 + 64;
+    public double defaultPassability = 1.0;
+    public final Map<MapLocation, Double> passability = new HashMap<>();
+
+    public int id = 1;
+    public Team team = Team.A;
+    public RobotType type;
+    public MapLocation location;
+    public int influence = 100;
+    public int conviction = 100;
+    public double cooldownTurns;
+    public int roundNum = 1;
+    public int teamVotes;
+    public int lastBid;
+    public double empowerFactor = 1.0;
+    public int flag;
+
+    private final Map<Integer, RobotInfo> robots = new LinkedHashMap<>();
+    private final Map<Integer, Integer> flags = new HashMap<>();
+    private final Map<String, Integer> calls = new TreeMap<>();
+    private int nextId = 10000;
+    private final RobotController controller;
+
+    public FakeRobotController(RobotType type, MapLocation location) {
+        this.type = type;
+        this.location = location;
+        controller = (RobotController) Proxy.newProxyInstance(RobotController.class.getClassLoader(),
+                new Class<?>[]{RobotController.class}, (proxy, method, args) -> {
+                    calls.merge(method.getName(), 1, Integer::sum);
+                    Method target;
+                    try {
+                        target = FakeRobotController.class.getMethod(method.getName(), method.getParameterTypes());
+                    } catch (NoSuchMethodException e) {
+                        throw new UnsupportedOperationException("RobotController." + method.getName() + " is not faked");
+                    }
+                    try {
+                        return target.invoke(this, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    public RobotController controller() {
+        return controller;
+    }
+
+    // scripting
+
+    /**
+     * Places a robot with a new id on the map and returns it.
+     */
+    public RobotInfo addRobot(Team team, RobotType type, MapLocation location, int influence) {
+        RobotInfo robot = new RobotInfo(nextId++, team, type, influence, influence, location);
+        robots.put(robot.ID, robot);
+        return robot;
+    }
+
+    public void removeRobot(int id) {
+        robots.remove(id);
+        flags.remove(id);
+    }
+
+    public void removeAllRobots() {
+        robots.clear();
+        flags.clear();
+    }
+
+    /**
+     * Sets the raw (not encoded) flag of the robot with [id].
+     */
+    public void setFlagOf(int id, int flag) {
+        flags.put(id, flag);
+    }
+
+    public Collection<RobotInfo> robots() {
+        return robots.values();
+    }
+
+    /**
+     * Returns the number of calls per RobotController method since the last resetCalls().
+     */
+    public Map<String, Integer> calls() {
+        return calls;
+    }
+
+    public int totalCalls() {
+        int total = 0;
+        for (int n : calls.values())
+            total += n;
+        return total;
+    }
+
+    public void resetCalls() {
+        calls.clear();
+    }
+
+    private static GameActionException cantDoThat(String message) {
+        return new GameActionException(GameActionExceptionType.CANT_DO_THAT, message);
+    }
+
+    private boolean inMap(MapLocation loc) {
+        return loc.x >= minX && loc.x < maxX && loc.y >= minY && loc.y < maxY;
+    }
+
+    private RobotInfo robotAt(MapLocation loc) {
+        for (RobotInfo robot : robots.values())
+            if (robot.location.equals(loc))
+                return robot;
+        return null;
+    }
+
+    private void assertCanSense(MapLocation loc) throws GameActionException {
+        if (!canSenseLocation(loc))
+            throw new GameActionException(GameActionExceptionType.CANT_SENSE_THAT, "cannot sense " + loc);
+    }
+
+    // RobotController
+
+    public int getRoundNum() {
+        return roundNum;
+    }
+
+    public int getTeamVotes() {
+        return teamVotes;
+    }
+
+    public int getRobotCount() {
+        int count = 1;
+        for (RobotInfo robot : robots.values())
+            if (robot.team == team)
+                count++;
+        return count;
+    }
+
+    public boolean onTheMap(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return inMap(loc);
+    }
+
+    public boolean canSenseLocation(MapLocation loc) {
+        return location.distanceSquaredTo(loc) <= type.sensorRadiusSquared;
+    }
+
+    public boolean canSenseRadiusSquared(int radiusSquared) {
+        return radiusSquared <= type.sensorRadiusSquared;
+    }
+
+    public boolean canDetectLocation(MapLocation loc) {
+        return location.distanceSquaredTo(loc) <= type.detectionRadiusSquared;
+    }
+
+    public boolean isLocationOccupied(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return loc.equals(location) || robotAt(loc) != null;
+    }
+
+    public RobotInfo senseRobotAtLocation(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return robotAt(loc);
+    }
+
+    public boolean canSenseRobot(int id) {
+        RobotInfo robot = robots.get(id);
+        return robot != null && canSenseLocation(robot.location);
+    }
+
+    public RobotInfo senseRobot(int id) throws GameActionException {
+        if (!canSenseRobot(id))
+            throw new GameActionException(GameActionExceptionType.CANT_SENSE_THAT, "cannot sense " + id);
+        return robots.get(id);
+    }
+
+    public RobotInfo[] senseNearbyRobots() {
+        return senseNearbyRobots(location, -1, null);
+    }
+
+    public RobotInfo[] senseNearbyRobots(int radiusSquared) {
+        return senseNearbyRobots(location, radiusSquared, null);
+    }
+
+    public RobotInfo[] senseNearbyRobots(int radiusSquared, Team team) {
+        return senseNearbyRobots(location, radiusSquared, team);
+    }
+
+    public RobotInfo[] senseNearbyRobots(MapLocation center, int radiusSquared, Team team) {
+        int r2 = radiusSquared == -1 ? type.sensorRadiusSquared : Math.min(radiusSquared, type.sensorRadiusSquared);
+        List<RobotInfo> sensed = new ArrayList<>();
+        for (RobotInfo robot : robots.values())
+            if (center.distanceSquaredTo(robot.location) <= r2 && canSenseLocation(robot.location)
+                    && (team == null || robot.team == team))
+                sensed.add(robot);
+        return sensed.toArray(new RobotInfo[0]);
+    }
+
+    public double sensePassability(MapLocation loc) throws GameActionException {
+        assertCanSense(loc);
+        return passability.getOrDefault(loc, defaultPassability);
+    }
+
+    public MapLocation adjacentLocation(Direction dir) {
+        return location.add(dir);
+    }
+
+    public int getID() {
+        return id;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public RobotType getType() {
+        return type;
+    }
+
+    public MapLocation getLocation() {
+        return location;
+    }
+
+    public int getInfluence() {
+        return influence;
+    }
+
+    public int getConviction() {
+        return conviction;
+    }
+
+    public double getCooldownTurns() {
+        return cooldownTurns;
+    }
+
+    public double getEmpowerFactor(Team team, int roundsInFuture) {
+        return empowerFactor;
+    }
+
+    public boolean isReady() {
+        return cooldownTurns < 1;
+    }
+
+    public boolean canMove(Direction dir) {
+        MapLocation loc = location.add(dir);
+        return isReady() && inMap(loc) && robotAt(loc) == null;
+    }
+
+    public void move(Direction dir) throws GameActionException {
+        if (!canMove(dir))
+            throw new GameActionException(GameActionExceptionType.CANT_MOVE_THERE, "cannot move " + dir);
+        location = location.add(dir);
+        cooldownTurns += type.actionCooldown / passability.getOrDefault(location, defaultPassability);
+    }
+
+    public boolean canBuildRobot(RobotType type, Direction dir, int influence) {
+        MapLocation loc = location.add(dir);
+        return this.type == RobotType.ENLIGHTENMENT_CENTER && isReady() && influence <= this.influence
+                && inMap(loc) && robotAt(loc) == null;
+    }
+
+    public void buildRobot(RobotType type, Direction dir, int influence) throws GameActionException {
+        if (!canBuildRobot(type, dir, influence))
+            throw cantDoThat("cannot build " + type + " " + dir);
+        this.influence -= influence;
+        cooldownTurns += this.type.actionCooldown;
+        addRobot(team, type, location.add(dir), influence);
+    }
+
+    public boolean canEmpower(int radiusSquared) {
+        return type == RobotType.POLITICIAN && isReady() && radiusSquared <= type.actionRadiusSquared;
+    }
+
+    public void empower(int radiusSquared) throws GameActionException {
+        if (!canEmpower(radiusSquared))
+            throw cantDoThat("cannot empower " + radiusSquared);
+        cooldownTurns += type.actionCooldown;
+    }
+
+    public boolean canExpose(MapLocation loc) {
+        RobotInfo robot = robotAt(loc);
+        return type == RobotType.MUCKRAKER && isReady() && robot != null && robot.team != team
+                && robot.type == RobotType.SLANDERER && location.distanceSquaredTo(loc) <= type.actionRadiusSquared;
+    }
+
+    public void expose(MapLocation loc) throws GameActionException {
+        if (!canExpose(loc))
+            throw cantDoThat("cannot expose " + loc);
+        removeRobot(robotAt(loc).ID);
+        cooldownTurns += type.actionCooldown;
+    }
+
+    public boolean canBid(int influence) {
+        return type == RobotType.ENLIGHTENMENT_CENTER && influence > 0 && influence <= this.influence;
+    }
+
+    public void bid(int influence) throws GameActionException {
+        if (!canBid(influence))
+            throw cantDoThat("cannot bid " + influence);
+        lastBid = influence;
+    }
+
+    public boolean canSetFlag(int flag) {
+        return flag >= GameConstants.MIN_FLAG_VALUE && flag <= GameConstants.MAX_FLAG_VALUE;
+    }
+
+    public void setFlag(int flag) throws GameActionException {
+        if (!canSetFlag(flag))
+            throw cantDoThat("invalid flag " + flag);
+        this.flag = flag;
+    }
+
+    public boolean canGetFlag(int id) {
+        return id == this.id || robots.containsKey(id);
+    }
+
+    public int getFlag(int id) throws GameActionException {
+        if (!canGetFlag(id))
+            throw cantDoThat("cannot get flag of " + id);
+        return id == this.id ? flag : flags.getOrDefault(id, 0);
+    }
+
+    public void setIndicatorDot(MapLocation loc, int red, int green, int blue) {
+    }
+
+    public void setIndicatorLine(MapLocation startLoc, MapLocation endLoc, int red, int green, int blue) {
+    }
+
+    public void resign() {
+    }
+
+    public void disintegrate() {
+    }
+
+}
@@ -0,0 +1,39 @@
+package mars.util;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BorderKnowledgeTest {
+
+	@Test
+	public void testKeepsFirstBorder() {
+		BorderKnowledge borders = new BorderKnowledge();
+		assertFalse(borders.isKnown(BorderKnowledge.LEFT));
+		assertTrue(borders.set(BorderKnowledge.LEFT, 10000));
+		assertFalse(borders.set(BorderKnowledge.LEFT, 10005));
+		assertEquals(10000, borders.get(BorderKnowledge.LEFT));
+		assertEquals(BorderKnowledge.UNKNOWN, borders.get(BorderKnowledge.TOP));
+	}
+
+	@Test
+	public void testNearest() {
+		BorderKnowledge borders = new BorderKnowledge();
+		assertEquals(-1, borders.nearestSide(10010, 20010));
+		assertEquals(Integer.MAX_VALUE, borders.distanceToEdge(10010, 20010));
+		assertNull(borders.nearest(new MapLocation(10010, 20010)));
+
+		borders.set(BorderKnowledge.RIGHT, 10020);
+		borders.set(BorderKnowledge.BOTTOM, 20000);
+		assertEquals(BorderKnowledge.RIGHT, borders.nearestSide(10015, 20010));
+		assertEquals(5, borders.distanceToEdge(10015, 20010));
+		assertEquals(new MapLocation(10020, 20010), borders.nearest(new MapLocation(10015, 20010)));
+
+		assertEquals(BorderKnowledge.BOTTOM, borders.nearestSide(10005, 20003));
+		assertEquals(new MapLocation(10005, 20000), borders.nearest(new MapLocation(10005, 20003)));
+		assertEquals(Direction.SOUTH, BorderKnowledge.direction(BorderKnowledge.BOTTOM));
+	}
+
+}
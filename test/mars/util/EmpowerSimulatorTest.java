@@ -0,0 +1,65 @@
+package mars.util;
+
+import battlecode.common.MapLocation;
+import battlecode.common.RobotType;
+import battlecode.common.Team;
+import mars.sim.FakeRobotController;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class EmpowerSimulatorTest {
+
+	private static final MapLocation CENTER = new MapLocation(10032, 20032);
+
+	private static int bestRadius(EmpowerSimulator simulator, FakeRobotController fake) {
+		SensorSnapshot sensor = new SensorSnapshot(fake.controller());
+		sensor.update(1);
+		return simulator.bestRadius(sensor, fake.team, fake.conviction, 1.0, RobotType.POLITICIAN.actionRadiusSquared);
+	}
+
+	@Test
+	public void testConvertsReachableMuckrakers() {
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, CENTER);
+		fake.conviction = 40;
+		Team enemy = fake.team.opponent();
+		fake.addRobot(enemy, RobotType.MUCKRAKER, CENTER.translate(1, 0), 10);
+		fake.addRobot(enemy, RobotType.MUCKRAKER, CENTER.translate(0, 2), 10);
+		fake.addRobot(enemy, RobotType.MUCKRAKER, CENTER.translate(3, 0), 10);
+
+		// radius 4 splits 30 into 15 per muckraker, which converts both, radius 9 only gives 10 per muckraker
+		EmpowerSimulator simulator = new EmpowerSimulator(0);
+		assertEquals(4, bestRadius(simulator, fake));
+		assertEquals(2, simulator.converted);
+		assertEquals(20, simulator.value);
+	}
+
+	@Test
+	public void testIgnoresHealingOnly() {
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, CENTER);
+		fake.addRobot(fake.team, RobotType.ENLIGHTENMENT_CENTER, CENTER.translate(1, 0), 100);
+		assertEquals(EmpowerSimulator.NONE, bestRadius(new EmpowerSimulator(0), fake));
+	}
+
+	@Test
+	public void testNotWorthIt() {
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, CENTER);
+		fake.conviction = 200;
+		fake.addRobot(fake.team.opponent(), RobotType.MUCKRAKER, CENTER.translate(1, 1), 1);
+		EmpowerSimulator simulator = new EmpowerSimulator(0);
+		assertEquals(EmpowerSimulator.NONE, bestRadius(simulator, fake));
+		assertEquals(1, simulator.converted);
+	}
+
+	@Test
+	public void testNeutralizesPoliticians() {
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, CENTER);
+		fake.conviction = 30;
+		// 20 conviction leaves the enemy politician with 10, which makes it harmless
+		fake.addRobot(fake.team.opponent(), RobotType.POLITICIAN, CENTER.translate(2, 0), 30);
+		EmpowerSimulator simulator = new EmpowerSimulator(0);
+		assertEquals(4, bestRadius(simulator, fake));
+		assertEquals(1, simulator.converted);
+	}
+
+}
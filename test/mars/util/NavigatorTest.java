@@ -0,0 +1,67 @@
+package mars.util;
+
+import battlecode.common.MapLocation;
+import battlecode.common.RobotType;
+import battlecode.common.Team;
+import mars.sim.FakeRobotController;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NavigatorTest {
+
+	private static Navigator navigator(FakeRobotController fake) throws Exception {
+		TerrainCache terrain = new TerrainCache(fake.controller());
+		terrain.update();
+		SensorSnapshot sensor = new SensorSnapshot(fake.controller());
+		sensor.update(fake.roundNum);
+		return new Navigator(fake.controller(), terrain, sensor, 0);
+	}
+
+	@Test
+	public void testAvoidsSlowTiles() throws Exception {
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, new MapLocation(10020, 20020));
+		// a slow wall between the politician and its target, with a gap on the east side
+		for (int x = 10016; x <= 10022; x++)
+			fake.passability.put(new MapLocation(x, 20022), 0.1);
+		MapLocation target = new MapLocation(10020, 20024);
+		Navigator navigator = navigator(fake);
+
+		for (int i = 0; i < 6 && !fake.location.equals(target); i++) {
+			fake.cooldownTurns = 0;
+			assertTrue(navigator.move(target));
+			assertFalse(fake.passability.containsKey(fake.location));
+		}
+		assertEquals(target, fake.location);
+	}
+
+	@Test
+	public void testPlansOnCooldownAndMovesAroundRobots() throws Exception {
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, new MapLocation(10020, 20020));
+		MapLocation target = new MapLocation(10030, 20020);
+		Navigator navigator = navigator(fake);
+
+		// the first plan is made while waiting for the cooldown, move() then only follows it
+		fake.cooldownTurns = 1;
+		assertFalse(navigator.move(target));
+		fake.cooldownTurns = 0;
+		assertTrue(navigator.move(target));
+		fake.cooldownTurns = 1;
+		navigator.precompute();
+		fake.cooldownTurns = 0;
+		fake.resetCalls();
+		assertTrue(navigator.move(target));
+		assertEquals(new MapLocation(10022, 20020), fake.location);
+		assertEquals(0, (int) fake.calls().getOrDefault("senseNearbyRobots", 0));
+
+		// a robot in the way makes the politician step around it
+		fake.addRobot(Team.B, RobotType.MUCKRAKER, new MapLocation(10023, 20020), 1);
+		fake.cooldownTurns = 0;
+		assertTrue(navigator.move(target));
+		assertEquals(1, Math.abs(fake.location.y - 20020));
+		assertEquals(10023, fake.location.x);
+	}
+
+}
@@ -0,0 +1,66 @@
+package mars.util;
+
+import battlecode.common.MapLocation;
+import battlecode.common.RobotInfo;
+import battlecode.common.RobotType;
+import mars.sim.FakeRobotController;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SensorSnapshotTest {
+
+	@Test
+	public void testBuckets() {
+		MapLocation center = new MapLocation(10032, 20032);
+		FakeRobotController fake = new FakeRobotController(RobotType.POLITICIAN, center);
+		fake.addRobot(fake.team, RobotType.MUCKRAKER, center.translate(3, 0), 1);
+		fake.addRobot(fake.team.opponent(), RobotType.MUCKRAKER, center.translate(1, 1), 1);
+		fake.addRobot(fake.team.opponent(), RobotType.SLANDERER, center.translate(0, -4), 1);
+		fake.addRobot(fake.team.opponent(), RobotType.MUCKRAKER, center.translate(-2, 2), 1);
+		fake.addRobot(fake.team, RobotType.ENLIGHTENMENT_CENTER, center.translate(1, 0), 1);
+
+		SensorSnapshot sensor = new SensorSnapshot(fake.controller());
+		sensor.update(1);
+		assertEquals(5, sensor.size);
+		assertEquals(2, sensor.teamCount(SensorSnapshot.ALLY));
+		assertEquals(3, sensor.teamCount(SensorSnapshot.ENEMY));
+		assertEquals(0, sensor.teamCount(SensorSnapshot.NEUTRAL));
+
+		int enemyMuckraker = SensorSnapshot.kind(SensorSnapshot.ENEMY, RobotType.MUCKRAKER);
+		assertEquals(2, sensor.count(enemyMuckraker));
+		int[] byKind = sensor.byKind();
+		int[] kindStarts = sensor.kindStarts();
+		for (int j = kindStarts[enemyMuckraker]; j < kindStarts[enemyMuckraker + 1]; j++) {
+			RobotInfo robot = sensor.robots[byKind[j]];
+			assertEquals(RobotType.MUCKRAKER, robot.type);
+			assertEquals(fake.team.opponent(), robot.team);
+		}
+
+		// robots sorted by distance are 1 (EC), 2, 8, 9 and 16
+		int[] byDistance = sensor.byDistance();
+		int[] distanceStarts = sensor.distanceStarts();
+		int previous = 0;
+		for (int j = 0; j < sensor.size; j++) {
+			int distance = sensor.distances[byDistance[j]];
+			assertTrue(distance >= previous);
+			assertTrue(distanceStarts[distance] <= j && j < distanceStarts[distance + 1]);
+			previous = distance;
+		}
+		assertEquals(0, distanceStarts[8] - distanceStarts[7]);
+		assertEquals(1, distanceStarts[9] - distanceStarts[8]);
+	}
+
+	@Test
+	public void testSensesOncePerRound() {
+		FakeRobotController fake = new FakeRobotController(RobotType.MUCKRAKER, new MapLocation(10032, 20032));
+		SensorSnapshot sensor = new SensorSnapshot(fake.controller());
+		sensor.update(1);
+		sensor.update(1);
+		assertEquals(1, (int) fake.calls().get("senseNearbyRobots"));
+		sensor.update(2);
+		assertEquals(2, (int) fake.calls().get("senseNearbyRobots"));
+	}
+
+}
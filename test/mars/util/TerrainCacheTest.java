@@ -0,0 +1,46 @@
+package mars.util;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotType;
+import mars.sim.FakeRobotController;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TerrainCacheTest {
+
+	@Test
+	public void testRemembersTerrain() throws Exception {
+		FakeRobotController fake = new FakeRobotController(RobotType.MUCKRAKER, new MapLocation(10002, 20030));
+		fake.passability.put(new MapLocation(10003, 20031), 0.25);
+		TerrainCache terrain = new TerrainCache(fake.controller());
+		terrain.update();
+
+		assertEquals(TerrainCache.OFF_MAP, terrain.get(9999, 20030));
+		assertEquals(TerrainCache.UNKNOWN, terrain.get(10002, 20036));
+		assertEquals(100, terrain.get(10000, 20030));
+		assertEquals(0.25, terrain.passability(10003, 20031), 1e-9);
+		assertEquals(0.0, terrain.passability(9999, 20030), 1e-9);
+	}
+
+	@Test
+	public void testSensesOnlyNewTiles() throws Exception {
+		FakeRobotController fake = new FakeRobotController(RobotType.MUCKRAKER, new MapLocation(10032, 20032));
+		TerrainCache terrain = new TerrainCache(fake.controller());
+		terrain.update();
+		int initial = fake.calls().get("onTheMap");
+		assertTrue(initial > 80);
+
+		fake.location = fake.location.add(Direction.NORTH);
+		terrain.update();
+		assertEquals(11, fake.calls().get("onTheMap") - initial);
+		assertEquals(100, terrain.get(10032, 20038));
+
+		// standing still senses nothing
+		terrain.update();
+		assertEquals(11, fake.calls().get("onTheMap") - initial);
+	}
+
+}